@@ -0,0 +1,151 @@
+package com.pobluesky.voc.global.cache;
+
+import com.pobluesky.voc.feign.Customer;
+import com.pobluesky.voc.question.dto.response.QuestionSummaryResponseDTO;
+import com.pobluesky.voc.question.entity.QuestionStatus;
+import com.pobluesky.voc.question.entity.QuestionType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 캐시 값 형식별 크기/직렬화/역직렬화 비교 (./gradlew jmh)
+ * 기준 형식은 변경 전 운영 형식 (목록 캐시: JDK 직렬화, 사용자 프로필: GenericJackson2Json)
+ * 값 크기(byte)는 직렬화 벤치마크의 보조 카운터 serializedBytes 로 결과 표에 함께 보고된다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheValueFormatBenchmark {
+
+    // 담당자/고객사 질문 목록 캐시 값 (Page<QuestionSummaryResponseDTO>)
+    @State(Scope.Benchmark)
+    public static class QuestionPageState {
+
+        @Param({"JDK", "JSON", "SMILE"})
+        String format;
+
+        @Param({"20", "100"})
+        int pageSize;
+
+        RedisSerializer<Object> serializer;
+
+        Page<QuestionSummaryResponseDTO> page;
+
+        byte[] bytes;
+
+        @Setup
+        public void setup() {
+            serializer = "JDK".equals(format)
+                ? new JdkSerializationRedisSerializer()
+                : CacheValueFormat.valueOf(format).serializer();
+            page = questionPage(pageSize);
+            bytes = serializer.serialize(page);
+        }
+    }
+
+    // 사용자 프로필 캐시 값 (CachingUserClient)
+    @State(Scope.Benchmark)
+    public static class CustomerState {
+
+        @Param({"GENERIC_JSON", "JSON", "SMILE"})
+        String format;
+
+        RedisSerializer<Object> serializer;
+
+        Customer customer;
+
+        byte[] bytes;
+
+        @Setup
+        public void setup() {
+            serializer = "GENERIC_JSON".equals(format)
+                ? new GenericJackson2JsonRedisSerializer()
+                : CacheValueFormat.valueOf(format).serializer();
+            customer = customer();
+            bytes = serializer.serialize(customer);
+        }
+    }
+
+    // 직렬화된 값 크기 (EVENTS 는 시간으로 나누지 않으므로 마지막 호출의 크기가 그대로 보고된다)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SizeCounters {
+
+        public long serializedBytes;
+    }
+
+    @Benchmark
+    public byte[] serializeQuestionPage(QuestionPageState state, SizeCounters counters) {
+        byte[] bytes = state.serializer.serialize(state.page);
+        counters.serializedBytes = bytes.length;
+
+        return bytes;
+    }
+
+    @Benchmark
+    public Object deserializeQuestionPage(QuestionPageState state) {
+        return state.serializer.deserialize(state.bytes);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomer(CustomerState state, SizeCounters counters) {
+        byte[] bytes = state.serializer.serialize(state.customer);
+        counters.serializedBytes = bytes.length;
+
+        return bytes;
+    }
+
+    @Benchmark
+    public Object deserializeCustomer(CustomerState state) {
+        return state.serializer.deserialize(state.bytes);
+    }
+
+    private static Page<QuestionSummaryResponseDTO> questionPage(int size) {
+        List<QuestionSummaryResponseDTO> content = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.of(2024, 9, 1, 10, 30);
+
+        for (int i = 0; i < size; i++) {
+            boolean answered = i % 3 == 0;
+
+            content.add(QuestionSummaryResponseDTO.builder()
+                .questionId(10_000L + i)
+                .title("강재 납기 관련 문의 " + i)
+                .status(answered ? QuestionStatus.COMPLETED : QuestionStatus.READY)
+                .type(QuestionType.values()[i % QuestionType.values().length])
+                .contents("주문한 열연 코일의 납기 일정 및 품질 검사 성적서 발행 일정을 확인 부탁드립니다. " + i)
+                .customerName("고객사 " + (i % 5))
+                .questionCreatedAt(now.minusHours(i))
+                .answerCreatedAt(answered ? now.minusHours(i).plusMinutes(45) : null)
+                .managerId(answered ? 200L + (i % 7) : null)
+                .isActivated(true)
+                .build());
+        }
+
+        return new PageImpl<>(content, PageRequest.of(0, size), 1_000L);
+    }
+
+    private static Customer customer() {
+        Customer customer = new Customer();
+        customer.setUserId(1L);
+        customer.setName("홍길동");
+        customer.setCustomerName("포스코 고객사");
+
+        return customer;
+    }
+}
@@ -8,14 +8,18 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 @ComponentScan(basePackages = {
     "com.pobluesky.voc.global",
     "com.pobluesky.voc.answer",
     "com.pobluesky.voc.collaboration",
     "com.pobluesky.voc.question",
+    "com.pobluesky.voc.manager",
+    "com.pobluesky.voc.dashboard",
 })
 @EnableFeignClients(basePackages = "com.pobluesky.voc.feign")
 public class VocApplication {
@@ -5,12 +5,18 @@ import com.pobluesky.voc.answer.dto.request.AnswerUpdateRequestDTO;
 import com.pobluesky.voc.answer.dto.response.AnswerResponseDTO;
 import com.pobluesky.voc.answer.service.AnswerService;
 import com.pobluesky.voc.global.util.ResponseFactory;
+import com.pobluesky.voc.global.util.export.ExportFormat;
 import com.pobluesky.voc.global.util.model.CommonResult;
 import com.pobluesky.voc.global.util.model.JsonResult;
 import io.swagger.v3.oas.annotations.Operation;
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,9 +26,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -42,6 +50,76 @@ public class AnswerController {
             .body(ResponseFactory.getSuccessJsonResult(response));
     }
 
+    @GetMapping("/managers/page")
+    @Operation(
+        summary = "답변 페이지 조회(담당자)",
+        description = "등록된 답변을 조건에 맞게 페이지 단위로 조회한다. "
+            + "응답은 answersInfo, totalElements, totalPages 로 구성되며, 기존 목록 형식은 /api/answers/managers 에서 그대로 제공한다."
+    )
+    public ResponseEntity<JsonResult> getAnswerPageForManager(
+        @RequestHeader("Authorization") String token,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "15") int size,
+        @RequestParam(required = false) Long customerId,
+        @RequestParam(required = false) Long managerId,
+        @RequestParam(required = false) Long questionId,
+        @RequestParam(required = false) Boolean isActivated,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
+    ) {
+        Page<AnswerResponseDTO> answers = answerService.getAnswerPage(
+            token,
+            page,
+            size,
+            customerId,
+            managerId,
+            questionId,
+            isActivated,
+            startDate,
+            endDate
+        );
+
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("answersInfo", answers.getContent());
+        response.put("totalElements", answers.getTotalElements());
+        response.put("totalPages", answers.getTotalPages());
+
+        return ResponseEntity.status((HttpStatus.OK))
+            .body(ResponseFactory.getSuccessJsonResult(response));
+    }
+
+    @GetMapping("/managers/export")
+    @Operation(summary = "답변 목록 내보내기(담당자)", description = "답변 전체 조회(담당자)와 같은 조건의 전체 목록을 엑셀(xlsx) 또는 csv 파일로 내려받는다.")
+    public ResponseEntity<StreamingResponseBody> exportAnswersForManager(
+        @RequestHeader("Authorization") String token,
+        @RequestParam(defaultValue = "XLSX") String format,
+        @RequestParam(required = false) Long customerId,
+        @RequestParam(required = false) Long managerId,
+        @RequestParam(required = false) Long questionId,
+        @RequestParam(required = false) Boolean isActivated,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        StreamingResponseBody body = answerService.exportAnswers(
+            token,
+            exportFormat,
+            customerId,
+            managerId,
+            questionId,
+            isActivated,
+            startDate,
+            endDate
+        );
+
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.contentDisposition("answers"))
+            .contentType(exportFormat.getMediaType())
+            .body(body);
+    }
+
     @GetMapping("/managers/{questionId}")
     @Operation(summary = "질문별 답변 상세 조회(담당자)", description = "질문에 대한 상세 답변을 질문 번호로 조회한다.")
     public ResponseEntity<JsonResult> getAnswerByQuestionIdForManager(
@@ -73,6 +151,41 @@ public class AnswerController {
             .body(ResponseFactory.getSuccessJsonResult(response));
     }
 
+    @GetMapping("/customers/{userId}/page")
+    @Operation(
+        summary = "답변 페이지 조회(고객사)",
+        description = "특정 고객사의 답변을 조건에 맞게 페이지 단위로 조회한다. "
+            + "응답은 answersInfo, totalElements, totalPages 로 구성되며, 기존 목록 형식은 /api/answers/customers/{userId} 에서 그대로 제공한다."
+    )
+    public ResponseEntity<JsonResult> getAnswerPageByUserId(
+        @RequestHeader("Authorization") String token,
+        @PathVariable Long userId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "15") int size,
+        @RequestParam(required = false) Long questionId,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
+    ) {
+        Page<AnswerResponseDTO> answers = answerService.getAnswerPageByUserId(
+            token,
+            userId,
+            page,
+            size,
+            questionId,
+            startDate,
+            endDate
+        );
+
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("answersInfo", answers.getContent());
+        response.put("totalElements", answers.getTotalElements());
+        response.put("totalPages", answers.getTotalPages());
+
+        return ResponseEntity.status((HttpStatus.OK))
+            .body(ResponseFactory.getSuccessJsonResult(response));
+    }
+
     @GetMapping("/customers/{userId}/{questionId}")
     @Operation(summary = "질문별 답변 상세 조회(고객사)", description = "질문에 대한 상세 답변을 질문 번호로 조회한다.")
     public ResponseEntity<JsonResult> getAnswerByQuestionId(
@@ -132,9 +245,13 @@ public class AnswerController {
     @GetMapping("/managers/voc/dashboard")
     @Operation(summary = "월별 답변 처리 건수 평균")
     public ResponseEntity<Map<String, List<Object[]>>> averageMonthlyAnswer(
-        @RequestHeader("Authorization") String token
+        @RequestHeader("Authorization") String token,
+        @RequestParam(value = "year", required = false) Integer year
     ) {
-        Map<String, List<Object[]>> response = answerService.getAverageCountPerMonth(token);
+        Map<String, List<Object[]>> response = answerService.getAverageCountPerMonth(
+            token,
+            year != null ? year : LocalDate.now().getYear()
+        );
 
         return ResponseEntity.ok(response);
     }
@@ -1,8 +1,6 @@
 package com.pobluesky.voc.answer.dto.response;
 
 import com.pobluesky.voc.answer.entity.Answer;
-import com.pobluesky.voc.feign.Inquiry;
-import com.pobluesky.voc.feign.InquiryClient;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import lombok.Builder;
@@ -33,15 +31,10 @@ public record AnswerResponseDTO(
     Boolean isActivated
 ) {
 
-    public static AnswerResponseDTO from(Answer answer, InquiryClient inquiryClient) {
-        Optional<Long> inquiryId = Optional.ofNullable(
-            answer.getInquiryId() != null
-                ? inquiryClient.getInquiryByIdWithoutToken(answer.getInquiryId()).getData().getInquiryId()
-                : null
-        );
-
+    // 문의 번호는 답변에 저장된 값을 그대로 사용 (문의 서비스 조회 없음)
+    public static AnswerResponseDTO from(Answer answer) {
         return AnswerResponseDTO.builder()
-            .inquiryId(inquiryId)
+            .inquiryId(Optional.ofNullable(answer.getInquiryId()))
             .questionId(answer.getQuestion().getQuestionId())
             .customerId(answer.getCustomerId())
             .managerId(answer.getManagerId())
@@ -0,0 +1,29 @@
+package com.pobluesky.voc.answer.repository;
+
+import com.pobluesky.voc.answer.dto.response.AnswerResponseDTO;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface AnswerRepositoryCustom {
+    Page<AnswerResponseDTO> findAnswers(
+        Pageable pageable,
+        Long customerId,
+        Long managerId,
+        Long questionId,
+        Boolean isActivated,
+        LocalDate startDate,
+        LocalDate endDate
+    );
+
+    Stream<AnswerRow> streamAnswers(
+        int fetchSize,
+        Long customerId,
+        Long managerId,
+        Long questionId,
+        Boolean isActivated,
+        LocalDate startDate,
+        LocalDate endDate
+    );
+}
@@ -0,0 +1,169 @@
+package com.pobluesky.voc.answer.repository;
+
+import static com.pobluesky.voc.answer.entity.QAnswer.answer;
+
+import com.pobluesky.voc.answer.dto.response.AnswerResponseDTO;
+import com.pobluesky.voc.global.cache.QueryCountCache;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+@RequiredArgsConstructor
+public class AnswerRepositoryImpl implements AnswerRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    private final QueryCountCache queryCountCache;
+
+    @Override
+    public Page<AnswerResponseDTO> findAnswers(
+        Pageable pageable,
+        Long customerId,
+        Long managerId,
+        Long questionId,
+        Boolean isActivated,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        // 1. 응답에 필요한 컬럼만 프로젝션으로 조회 (question 은 FK 값만 사용하므로 조인 없음)
+        JPAQuery<AnswerRow> query = queryFactory
+            .select(rowProjection())
+            .from(answer)
+            .where(
+                customerIdEq(customerId),
+                managerIdEq(managerId),
+                questionIdEq(questionId),
+                isActivatedEq(isActivated),
+                createdDateBetween(startDate, endDate)
+            )
+            .orderBy(answer.createdDate.desc(), answer.answerId.desc());
+
+        // 기존 목록 API 는 페이징 없이 전체를 조회한다 (Pageable.unpaged())
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
+        }
+
+        List<AnswerRow> answers = query.fetch();
+
+        // 2. 문의 번호는 답변 행에 저장된 값을 그대로 사용 (문의 서비스 조회 없음)
+        List<AnswerResponseDTO> content = answers.stream()
+            .map(a -> AnswerResponseDTO.builder()
+                .questionId(a.questionId())
+                .inquiryId(Optional.ofNullable(a.inquiryId()))
+                .customerId(a.customerId())
+                .managerId(a.managerId())
+                .title(a.title())
+                .contents(a.contents())
+                .fileName(a.fileName())
+                .filePath(a.filePath())
+                .createdDate(a.createdDate())
+                .isActivated(a.isActivated())
+                .build())
+            .collect(Collectors.toList());
+
+        // 3. 동일한 조건의 count 쿼리 (마지막 페이지면 count 생략, 필터 조건별 단기 캐시)
+        JPAQuery<Long> countQuery = queryFactory
+            .select(answer.count())
+            .from(answer)
+            .where(
+                customerIdEq(customerId),
+                managerIdEq(managerId),
+                questionIdEq(questionId),
+                isActivatedEq(isActivated),
+                createdDateBetween(startDate, endDate)
+            );
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> queryCountCache.getCount(
+            "answers",
+            countQuery::fetchOne,
+            customerId, managerId, questionId, isActivated, startDate, endDate
+        ));
+    }
+
+    // 내보내기용 전체 조회 (fetch size 단위로 나눠 읽는 커서, 호출한 쪽에서 트랜잭션 안에서 닫아야 한다)
+    @Override
+    public Stream<AnswerRow> streamAnswers(
+        int fetchSize,
+        Long customerId,
+        Long managerId,
+        Long questionId,
+        Boolean isActivated,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        return queryFactory
+            .select(rowProjection())
+            .from(answer)
+            .where(
+                customerIdEq(customerId),
+                managerIdEq(managerId),
+                questionIdEq(questionId),
+                isActivatedEq(isActivated),
+                createdDateBetween(startDate, endDate)
+            )
+            .orderBy(answer.createdDate.desc(), answer.answerId.desc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .stream();
+    }
+
+    private ConstructorExpression<AnswerRow> rowProjection() {
+        return Projections.constructor(
+            AnswerRow.class,
+            answer.question.questionId,
+            answer.inquiryId,
+            answer.customerId,
+            answer.managerId,
+            answer.title,
+            answer.contents,
+            answer.fileName,
+            answer.filePath,
+            answer.createdDate,
+            answer.isActivated
+        );
+    }
+
+    private BooleanExpression customerIdEq(Long customerId) {
+        return customerId != null ? answer.customerId.eq(customerId) : null;
+    }
+
+    private BooleanExpression managerIdEq(Long managerId) {
+        return managerId != null ? answer.managerId.eq(managerId) : null;
+    }
+
+    private BooleanExpression questionIdEq(Long questionId) {
+        return questionId != null ? answer.question.questionId.eq(questionId) : null;
+    }
+
+    private BooleanExpression isActivatedEq(Boolean isActivated) {
+        return isActivated != null ? answer.isActivated.eq(isActivated) : null;
+    }
+
+    // 컬럼을 가공하지 않고 [startDate 00:00, endDate 다음날 00:00) 반개구간으로 비교
+    private BooleanExpression createdDateBetween(LocalDate startDate, LocalDate endDate) {
+        BooleanExpression from = startDate != null
+            ? answer.createdDate.goe(startDate.atStartOfDay())
+            : null;
+        BooleanExpression to = endDate != null
+            ? answer.createdDate.lt(endDate.plusDays(1).atStartOfDay())
+            : null;
+
+        if (from == null) {
+            return to;
+        }
+
+        return to != null ? from.and(to) : from;
+    }
+}
@@ -0,0 +1,32 @@
+package com.pobluesky.voc.answer.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 답변 목록 조회용 프로젝션
+ * question 연관관계는 FK 값(question_id)만 조회한다.
+ */
+public record AnswerRow(
+
+    Long questionId,
+
+    Long inquiryId,
+
+    Long customerId,
+
+    Long managerId,
+
+    String title,
+
+    String contents,
+
+    String fileName,
+
+    String filePath,
+
+    LocalDateTime createdDate,
+
+    Boolean isActivated
+
+) {
+}
@@ -6,6 +6,12 @@ import com.pobluesky.voc.answer.dto.response.AnswerResponseDTO;
 import com.pobluesky.voc.answer.dto.response.MobileAnswerSummaryResponseDTO;
 import com.pobluesky.voc.answer.entity.Answer;
 import com.pobluesky.voc.answer.repository.AnswerRepository;
+import com.pobluesky.voc.answer.repository.AnswerRow;
+import com.pobluesky.voc.dashboard.entity.MonthlyStat;
+import com.pobluesky.voc.dashboard.entity.StatType;
+import com.pobluesky.voc.dashboard.service.DashboardCounterService;
+import com.pobluesky.voc.dashboard.service.DashboardStatService;
+import com.pobluesky.voc.dashboard.service.LatencyHistogramService;
 import com.pobluesky.voc.feign.Customer;
 import com.pobluesky.voc.feign.FileClient;
 import com.pobluesky.voc.feign.FileInfo;
@@ -13,20 +19,32 @@ import com.pobluesky.voc.feign.Inquiry;
 import com.pobluesky.voc.feign.InquiryClient;
 import com.pobluesky.voc.feign.Manager;
 import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.feign.UserProfileReader;
 import com.pobluesky.voc.global.error.CommonException;
 import com.pobluesky.voc.global.error.ErrorCode;
+import com.pobluesky.voc.global.security.UserTokenResolver;
+import com.pobluesky.voc.global.util.PageCursor;
+import com.pobluesky.voc.global.util.export.ExportFormat;
+import com.pobluesky.voc.global.util.export.ExportStreamer;
 import com.pobluesky.voc.question.entity.Question;
 import com.pobluesky.voc.question.entity.QuestionStatus;
 import com.pobluesky.voc.question.repository.QuestionRepository;
+import com.pobluesky.voc.question.service.QuestionListCacheEvictor;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 
@@ -42,17 +60,92 @@ public class AnswerService {
 
     private final UserClient userClient;
 
+    private final UserProfileReader userProfileReader;
+
+    private final UserTokenResolver userTokenResolver;
+
     private final FileClient fileClient;
 
-    // 답변 전체 조회 (담당자)
+    private final DashboardStatService dashboardStatService;
+
+    private final DashboardCounterService dashboardCounterService;
+
+    private final LatencyHistogramService latencyHistogramService;
+
+    private final ExportStreamer exportStreamer;
+
+    private final QuestionListCacheEvictor questionListCacheEvictor;
+
+    // 답변 전체 조회 (담당자) - 기존 목록 응답 형식 유지
+    @Transactional(readOnly = true)
     public List<AnswerResponseDTO> getAnswers(String token) {
         validateManager(token);
 
-        List<Answer> answers = answerRepository.findAll();
+        return answerRepository.findAnswers(
+            Pageable.unpaged(),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        ).getContent();
+    }
+
+    // 답변 페이지 조회 (담당자)
+    @Transactional(readOnly = true)
+    public Page<AnswerResponseDTO> getAnswerPage(
+        String token,
+        int page,
+        int size,
+        Long customerId,
+        Long managerId,
+        Long questionId,
+        Boolean isActivated,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        validateManager(token);
+
+        return answerRepository.findAnswers(
+            PageRequest.of(Math.max(page, 0), PageCursor.pageSize(size)),
+            customerId,
+            managerId,
+            questionId,
+            isActivated,
+            startDate,
+            endDate
+        );
+    }
+
+    // 답변 목록 내보내기 (담당자) - 목록 조회와 같은 필터, 페이징 없이 전체
+    public StreamingResponseBody exportAnswers(
+        String token,
+        ExportFormat format,
+        Long customerId,
+        Long managerId,
+        Long questionId,
+        Boolean isActivated,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        validateManager(token);
 
-        return answers.stream()
-            .map(answer -> AnswerResponseDTO.from(answer,inquiryClient))
-            .collect(Collectors.toList());
+        return exportStreamer.stream(
+            format,
+            "답변 목록",
+            List.of("질문 번호", "문의 번호", "고객사", "담당자", "제목", "내용", "작성일", "활성 여부"),
+            fetchSize -> answerRepository.streamAnswers(
+                fetchSize,
+                customerId,
+                managerId,
+                questionId,
+                isActivated,
+                startDate,
+                endDate
+            ),
+            this::toExportRows
+        );
     }
 
     // 고객별 답변 전체 조회 (고객사)
@@ -62,11 +155,41 @@ public class AnswerService {
 
         validateUserMatch(customer.getUserId(), customerId);
 
-        List<Answer> answers = answerRepository.findAllByCustomerId(customerId);
+        return answerRepository.findAnswers(
+            Pageable.unpaged(),
+            customerId,
+            null,
+            null,
+            null,
+            null,
+            null
+        ).getContent();
+    }
 
-        return answers.stream()
-            .map(answer -> AnswerResponseDTO.from(answer,inquiryClient))
-            .collect(Collectors.toList());
+    // 고객별 답변 페이지 조회 (고객사)
+    @Transactional(readOnly = true)
+    public Page<AnswerResponseDTO> getAnswerPageByUserId(
+        String token,
+        Long customerId,
+        int page,
+        int size,
+        Long questionId,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        Customer customer = validateCustomer(token);
+
+        validateUserMatch(customer.getUserId(), customerId);
+
+        return answerRepository.findAnswers(
+            PageRequest.of(Math.max(page, 0), PageCursor.pageSize(size)),
+            customerId,
+            null,
+            questionId,
+            null,
+            startDate,
+            endDate
+        );
     }
 
     // 질문 번호별 답변 상세 조회 (담당자)
@@ -76,7 +199,7 @@ public class AnswerService {
 
         Answer answer = validateAnswer(questionId);
 
-        return AnswerResponseDTO.from(answer,inquiryClient);
+        return AnswerResponseDTO.from(answer);
     }
 
     // 질문 번호별 답변 상세 조회 (고객사)
@@ -90,7 +213,7 @@ public class AnswerService {
 
         validateUserMatch(answer.getCustomerId(), customerId);
 
-        return AnswerResponseDTO.from(answer,inquiryClient);
+        return AnswerResponseDTO.from(answer);
     }
 
     // 질문별 답변 작성 (담당자)
@@ -122,11 +245,25 @@ public class AnswerService {
 
         Answer answer = dto.toAnswerEntity(question, inquiryId, customer.getUserId(), manager.getUserId(), fileName, filePath);
         Answer savedAnswer = answerRepository.save(answer);
+        dashboardStatService.recordAnswer(savedAnswer.getCreatedDate(), savedAnswer.getManagerId());
+        dashboardCounterService.recordAnswerCreated(savedAnswer.getManagerId());
+        latencyHistogramService.recordAnswer(
+            question.getCreatedDate(),
+            savedAnswer.getCreatedDate(),
+            manager.getUserId(),
+            manager.getDepartment()
+        );
 
+        QuestionStatus previousStatus = question.getStatus();
         question.setStatus(QuestionStatus.COMPLETED);
         questionRepository.save(question);
+        // 질문 상태별 건수는 활성 질문만 센다
+        if (Boolean.TRUE.equals(question.getIsActivated())) {
+            dashboardCounterService.recordQuestionTransition(previousStatus, question.getStatus());
+        }
+        questionListCacheEvictor.evictCustomer(question.getUserId());
 
-        return AnswerResponseDTO.from(savedAnswer,inquiryClient);
+        return AnswerResponseDTO.from(savedAnswer);
     }
 
     // 답변 수정
@@ -166,17 +303,17 @@ public class AnswerService {
             filePath
         );
 
-        return AnswerResponseDTO.from(answer,inquiryClient);
+        return AnswerResponseDTO.from(answer);
     }
 
     // 월별 담당자별 VoC 답변 건수
     @Transactional(readOnly = true)
-    public Map<String, List<Object[]>> getAverageCountPerMonth(String token) {
+    public Map<String, List<Object[]>> getAverageCountPerMonth(String token, int year) {
         Manager manager = validateManager(token);
         Map<String, List<Object[]>> results = new HashMap<>();
 
-        results.put("total", answerRepository.findAverageCountPerMonth());
-        results.put("manager", answerRepository.findAverageCountPerMonthByManager(manager.getUserId()));
+        results.put("total", dashboardStatService.getMonthlyCounts(StatType.ANSWER, MonthlyStat.TOTAL_MANAGER_ID, year));
+        results.put("manager", dashboardStatService.getMonthlyCounts(StatType.ANSWER, manager.getUserId(), year));
 
         return results;
     }
@@ -204,8 +341,38 @@ public class AnswerService {
         return inquiry.getInquiryId();
     }
 
+    // chunk 단위로 고객사명과 담당자명을 한 번씩 일괄 조회
+    private List<List<?>> toExportRows(List<AnswerRow> rows) {
+        Map<Long, Customer> customers = userProfileReader.findCustomers(rows.stream()
+            .map(AnswerRow::customerId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet()));
+        Map<Long, Manager> managers = userProfileReader.findManagers(rows.stream()
+            .map(AnswerRow::managerId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet()));
+
+        return rows.stream()
+            .<List<?>>map(row -> {
+                Customer customer = customers.get(row.customerId());
+                Manager manager = managers.get(row.managerId());
+
+                return Arrays.asList(
+                    row.questionId(),
+                    row.inquiryId(),
+                    customer != null ? customer.getCustomerName() : null,
+                    manager != null ? manager.getName() : null,
+                    row.title(),
+                    row.contents(),
+                    row.createdDate(),
+                    Boolean.TRUE.equals(row.isActivated()) ? "Y" : "N"
+                );
+            })
+            .toList();
+    }
+
     private Manager validateManager(String token) {
-        Long userId = userClient.parseToken(token);
+        Long userId = userTokenResolver.resolveUserId(token);
 
         Manager manager = userClient.getManagerByIdWithoutToken(userId).getData();
         if(manager == null){
@@ -216,7 +383,7 @@ public class AnswerService {
     }
 
     private Customer validateCustomer(String token) {
-        Long userId = userClient.parseToken(token);
+        Long userId = userTokenResolver.resolveUserId(token);
 
         Customer customer = userClient.getCustomerByIdWithoutToken(userId).getData();
         if(customer==null){
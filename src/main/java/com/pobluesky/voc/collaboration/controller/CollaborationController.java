@@ -11,6 +11,8 @@ import com.pobluesky.voc.collaboration.service.CollaborationService;
 import com.pobluesky.voc.global.error.CommonException;
 import com.pobluesky.voc.global.redisson.LockKeyGenerator;
 import com.pobluesky.voc.global.util.ResponseFactory;
+import com.pobluesky.voc.global.util.export.ExportFormat;
+import com.pobluesky.voc.global.util.model.CursorPage;
 import com.pobluesky.voc.global.util.model.JsonResult;
 import io.swagger.v3.oas.annotations.Operation;
 import java.time.LocalDate;
@@ -20,6 +22,7 @@ import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -32,6 +35,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -88,6 +92,87 @@ public class CollaborationController {
             .body(ResponseFactory.getSuccessJsonResult(response));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "협업 목록 내보내기", description = "협업 목록 조회와 같은 조건의 전체 목록을 엑셀(xlsx) 또는 csv 파일로 내려받는다.")
+    public ResponseEntity<StreamingResponseBody> exportCollaborations(
+        @RequestHeader("Authorization") String token,
+        @RequestParam(defaultValue = "XLSX") String format,
+        @RequestParam(defaultValue = "LATEST") String sortBy,
+        @RequestParam(required = false) Long colId,
+        @RequestParam(required = false) String colStatus,
+        @RequestParam(required = false) String colReqManager,
+        @RequestParam(required = false) Long colReqId,
+        @RequestParam(required = false) String colResManager,
+        @RequestParam(required = false) Long colResId,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ColStatus status = ColStatus.from(colStatus);
+
+        StreamingResponseBody body = collaborationService.exportCollaborations(
+            token,
+            exportFormat,
+            sortBy,
+            colId,
+            status,
+            colReqManager,
+            colReqId,
+            colResManager,
+            colResId,
+            startDate,
+            endDate
+        );
+
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.contentDisposition("collaborations"))
+            .contentType(exportFormat.getMediaType())
+            .body(body);
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "협업 목록 커서 조회", description = "협업 목록을 조건에 맞게 커서 기반으로 조회한다.")
+    public ResponseEntity<JsonResult> getAllCollaborationsWithCursor(
+        @RequestHeader("Authorization") String token,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "15") int size,
+        @RequestParam(defaultValue = "LATEST") String sortBy,
+        @RequestParam(required = false) Long colId,
+        @RequestParam(required = false) String colStatus,
+        @RequestParam(required = false) String colReqManager,
+        @RequestParam(required = false) Long colReqId,
+        @RequestParam(required = false) String colResManager,
+        @RequestParam(required = false) Long colResId,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
+    ) {
+        ColStatus status = ColStatus.from(colStatus);
+
+        CursorPage<CollaborationSummaryResponseDTO> cols = collaborationService.getAllCollaborationsWithCursor(
+            token,
+            cursor,
+            size,
+            sortBy,
+            colId,
+            status,
+            colReqManager,
+            colReqId,
+            colResManager,
+            colResId,
+            startDate,
+            endDate
+        );
+
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("colListInfo", cols.content());
+        response.put("nextCursor", cols.nextCursor());
+        response.put("hasNext", cols.hasNext());
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(ResponseFactory.getSuccessJsonResult(response));
+    }
+
     @Operation(summary = "questionId 별 협업 요청")
     @PostMapping("/{questionId}")
     public ResponseEntity<JsonResult> createCollaboration(
@@ -196,9 +281,13 @@ public class CollaborationController {
     @GetMapping("/managers/col/dashboard")
     @Operation(summary = "월별 협업 처리 건수 평균")
     public ResponseEntity<Map<String, List<Object[]>>> averageMonthlyCol(
-        @RequestHeader("Authorization") String token
+        @RequestHeader("Authorization") String token,
+        @RequestParam(value = "year", required = false) Integer year
     ) {
-        Map<String, List<Object[]>> response = collaborationService.getAverageCountPerMonth(token);
+        Map<String, List<Object[]>> response = collaborationService.getAverageCountPerMonth(
+            token,
+            year != null ? year : LocalDate.now().getYear()
+        );
 
         return ResponseEntity.ok(response);
     }
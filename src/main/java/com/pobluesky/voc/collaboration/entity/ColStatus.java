@@ -1,5 +1,7 @@
 package com.pobluesky.voc.collaboration.entity;
 
+import com.pobluesky.voc.global.error.CommonException;
+import com.pobluesky.voc.global.error.ErrorCode;
 import lombok.Getter;
 
 @Getter
@@ -15,4 +17,19 @@ public enum ColStatus {
     ColStatus(String status) {
         this.status = status;
     }
+
+    // 목록 필터용 (null 또는 "false" 는 필터 없음, 그 외 알 수 없는 값은 400)
+    public static ColStatus from(String colStatus) {
+        if (colStatus == null || "false".equalsIgnoreCase(colStatus)) {
+            return null;
+        }
+
+        for (ColStatus value : ColStatus.values()) {
+            if (value.name().equalsIgnoreCase(colStatus)) {
+                return value;
+            }
+        }
+
+        throw new CommonException(ErrorCode.INVALID_COLLABORATION_STATUS);
+    }
 }
@@ -24,7 +24,7 @@ public class Collaboration extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long colId;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "question_id")
     private Question question;
 
@@ -18,36 +18,19 @@ public interface CollaborationRepository extends JpaRepository<Collaboration, Lo
     @Query("SELECT c FROM Collaboration c WHERE c.question = :question")
     Optional<Collaboration> findByQuestionId(@Param("question") Question question);
 
-    @Query(value = "WITH months AS (" +
-        "    SELECT generate_series(1, 12) AS month" +
-        "), " +
-        "counts AS (" +
-        "    SELECT EXTRACT(MONTH FROM c.created_date) AS month, " +
-        "           COUNT(*) AS col_count " +
-        "    FROM Collaboration c " +
-        "    GROUP BY EXTRACT(MONTH FROM c.created_date)" +
-        ") " +
-        "SELECT m.month, " +
-        "       COALESCE(c.col_count, 0) AS col_count " +
-        "FROM months m " +
-        "LEFT JOIN counts c ON m.month = c.month " +
-        "ORDER BY m.month", nativeQuery = true)
-    List<Object[]> findAverageCountPerMonth();
+    // 상태별 협업 건수 [colStatus, count]
+    @Query("SELECT c.colStatus, COUNT(c) FROM Collaboration c WHERE c.colStatus IS NOT NULL GROUP BY c.colStatus")
+    List<Object[]> countGroupByStatus();
 
-    @Query(value = "WITH months AS (" +
-        "    SELECT generate_series(1, 12) AS month" +
-        "), " +
-        "counts AS (" +
-        "    SELECT EXTRACT(MONTH FROM c.created_date) AS month, " +
-        "           COUNT(*) AS col_count " +
-        "    FROM Collaboration c " +
-        "    WHERE c.col_request_id = :managerId OR c.col_response_id = :managerId" +
-        "    GROUP BY EXTRACT(MONTH FROM c.created_date)" +
-        ") " +
-        "SELECT m.month, " +
-        "       COALESCE(c.col_count, 0) AS col_count " +
-        "FROM months m " +
-        "LEFT JOIN counts c ON m.month = c.month " +
-        "ORDER BY m.month", nativeQuery = true)
-    List<Object[]> findAverageCountPerMonthByManager(@Param("managerId") Long managerId);
+    // 담당자(요청/응답)별 상태별 협업 건수 [managerId, colStatus, count], 요청/응답이 같은 담당자면 한 번만 센다
+    @Query(value = "SELECT p.manager_id, p.col_status, COUNT(*) " +
+        "FROM (" +
+        "    SELECT c.col_id, c.col_request_id AS manager_id, c.col_status FROM collaboration c " +
+        "    WHERE c.col_request_id IS NOT NULL AND c.col_status IS NOT NULL " +
+        "    UNION " +
+        "    SELECT c.col_id, c.col_response_id AS manager_id, c.col_status FROM collaboration c " +
+        "    WHERE c.col_response_id IS NOT NULL AND c.col_status IS NOT NULL" +
+        ") p " +
+        "GROUP BY p.manager_id, p.col_status", nativeQuery = true)
+    List<Object[]> countGroupByManagerAndStatus();
 }
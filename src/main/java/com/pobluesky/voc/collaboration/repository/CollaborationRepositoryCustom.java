@@ -2,7 +2,10 @@ package com.pobluesky.voc.collaboration.repository;
 
 import com.pobluesky.voc.collaboration.dto.response.CollaborationSummaryResponseDTO;
 import com.pobluesky.voc.collaboration.entity.ColStatus;
+import com.pobluesky.voc.global.util.PageCursor;
+import com.pobluesky.voc.global.util.model.CursorPage;
 import java.time.LocalDate;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,4 +23,31 @@ public interface CollaborationRepositoryCustom {
         LocalDate endDate,
         String sortBy
     );
+
+    CursorPage<CollaborationSummaryResponseDTO> findAllCollaborationsRequestWithCursor(
+        PageCursor cursor,
+        int size,
+        Long colId,
+        ColStatus colStatus,
+        String colReqManager,
+        Long colReqId,
+        String colResManager,
+        Long colResId,
+        LocalDate startDate,
+        LocalDate endDate,
+        String sortBy
+    );
+
+    Stream<CollaborationRow> streamCollaborations(
+        int fetchSize,
+        Long colId,
+        ColStatus colStatus,
+        String colReqManager,
+        Long colReqId,
+        String colResManager,
+        Long colResId,
+        LocalDate startDate,
+        LocalDate endDate,
+        String sortBy
+    );
 }
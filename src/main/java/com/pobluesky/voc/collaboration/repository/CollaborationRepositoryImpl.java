@@ -1,27 +1,40 @@
 package com.pobluesky.voc.collaboration.repository;
 
 import static com.pobluesky.voc.collaboration.entity.QCollaboration.collaboration;
+import static com.pobluesky.voc.manager.entity.QManagerDirectory.managerDirectory;
 
 import com.pobluesky.voc.collaboration.dto.response.CollaborationSummaryResponseDTO;
 import com.pobluesky.voc.collaboration.entity.ColStatus;
 import com.pobluesky.voc.collaboration.entity.Collaboration;
 import com.pobluesky.voc.feign.Manager;
-import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.feign.UserProfileReader;
+import com.pobluesky.voc.global.cache.QueryCountCache;
 import com.pobluesky.voc.global.error.CommonException;
 import com.pobluesky.voc.global.error.ErrorCode;
+import com.pobluesky.voc.global.util.KeysetCondition;
+import com.pobluesky.voc.global.util.PageCursor;
+import com.pobluesky.voc.global.util.model.CursorPage;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.DateTemplate;
-import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
 @RequiredArgsConstructor
@@ -29,7 +42,9 @@ public class CollaborationRepositoryImpl implements CollaborationRepositoryCusto
 
     private final JPAQueryFactory queryFactory;
 
-    private final UserClient userClient;
+    private final UserProfileReader userProfileReader;
+
+    private final QueryCountCache queryCountCache;
 
     @Override
     public Page<CollaborationSummaryResponseDTO> findAllCollaborationsRequest(
@@ -44,14 +59,16 @@ public class CollaborationRepositoryImpl implements CollaborationRepositoryCusto
         LocalDate endDate,
         String sortBy) {
 
-        // 1. 기본적으로 Collaboration 정보를 조회 (colReqManager 이름 필터링 없이)
+        // 1. 담당자명 필터는 manager_directory 서브쿼리로 SQL에서 처리한 뒤 페이징
         List<Collaboration> collaborations = queryFactory
             .selectFrom(collaboration)
             .where(
                 colIdEq(colId),        // colId 조건 추가
                 colStatusEq(colStatus),
                 colReqIdEq(colReqId),
+                colReqManagerEq(colReqManager),
                 colResIdEq(colResId),
+                colResManagerEq(colResManager),
                 createdDateBetween(startDate, endDate)
             )
             .orderBy(getOrderSpecifier(sortBy))
@@ -59,55 +76,180 @@ public class CollaborationRepositoryImpl implements CollaborationRepositoryCusto
             .limit(pageable.getPageSize())
             .fetch();
 
-        // 2. 조회된 Collaboration 목록의 Manager 정보를 가져오기 위한 userId 목록 생성
+        // 2. 조회된 Collaboration 목록의 요청/응답 담당자 정보를 한 번에 조회
+        Map<Long, Manager> managers = fetchManagers(collaborations);
+
         List<CollaborationSummaryResponseDTO> content = collaborations.stream()
-            .map(c -> {
-                // Feign 클라이언트를 통해 colRequestId로 Manager 정보 가져오기
-                Manager colReqManagerInfo = null;
-                Manager colResManagerInfo = null;
-                try {
-                    if (c.getColRequestId() != null) {
-                        colReqManagerInfo = userClient.getManagerByIdWithoutToken(c.getColRequestId()).getData();
-                    }
-                    if (c.getColResponseId() != null) {
-                        colResManagerInfo = userClient.getManagerByIdWithoutToken(c.getColResponseId()).getData();
-                    }
-                } catch (Exception e) {
-                    // 예외 처리 (예: 로그 기록)
-                    colReqManagerInfo = null;
-                    colResManagerInfo = null;
-                }
-
-                // DTO로 변환
-                return CollaborationSummaryResponseDTO.builder()
-                    .colId(c.getColId())
-                    .questionId(c.getQuestion() != null ? c.getQuestion().getQuestionId() : null)
-                    .colReqManager(colReqManagerInfo != null ? colReqManagerInfo.getName() : null)
-                    .colId(colReqManagerInfo != null ? colReqManagerInfo.getUserId() : null)
-                    .colResManager(colResManagerInfo != null ? colResManagerInfo.getName() : null)
-                    .colId(colResManagerInfo != null ? colResManagerInfo.getUserId() : null)
-                    .colStatus(c.getColStatus())
-                    .colContents(c.getColContents())
-                    .createdDate(c.getCreatedDate())
-                    .build();
-            })
-            // 3. 메모리 내에서 colReqManager 이름으로 필터링
-            .filter(dto -> {
-                if (StringUtils.hasText(colReqManager)) {
-                    return dto.colReqManager() != null && dto.colReqManager().equalsIgnoreCase(colReqManager);
-                }
-                if (StringUtils.hasText(colResManager)) {
-                    return dto.colResManager() != null && dto.colResManager().equalsIgnoreCase(colResManager);
-                }
-                return true; // colReqManager가 없으면 필터링하지 않음
-            })
+            .map(c -> toSummaryResponseDTO(c, managers))
             .collect(Collectors.toList());
 
-        // 4. 카운트 쿼리 (전체 Collaboration 수를 기준으로 설정)
-        long total = content.size();
+        // 3. 동일한 조건의 count 쿼리 (마지막 페이지면 count 생략, 필터 조건별 단기 캐시)
+        JPAQuery<Long> countQuery = queryFactory
+            .select(collaboration.count())
+            .from(collaboration)
+            .where(
+                colIdEq(colId),
+                colStatusEq(colStatus),
+                colReqIdEq(colReqId),
+                colReqManagerEq(colReqManager),
+                colResIdEq(colResId),
+                colResManagerEq(colResManager),
+                createdDateBetween(startDate, endDate)
+            );
+
+        // 4. 페이징된 CollaborationSummaryResponseDTO 리스트 반환
+        return PageableExecutionUtils.getPage(content, pageable, () -> queryCountCache.getCount(
+            "collaborations",
+            countQuery::fetchOne,
+            colId, colStatus, colReqManager, colReqId, colResManager, colResId, startDate, endDate
+        ));
+    }
+
+    @Override
+    public CursorPage<CollaborationSummaryResponseDTO> findAllCollaborationsRequestWithCursor(
+        PageCursor cursor,
+        int size,
+        Long colId,
+        ColStatus colStatus,
+        String colReqManager,
+        Long colReqId,
+        String colResManager,
+        Long colResId,
+        LocalDate startDate,
+        LocalDate endDate,
+        String sortBy
+    ) {
+        // 1. 마지막으로 내려준 행 이후부터 size + 1건 조회 (offset 없이 인덱스 탐색)
+        List<Collaboration> collaborations = queryFactory
+            .selectFrom(collaboration)
+            .where(
+                colIdEq(colId),
+                colStatusEq(colStatus),
+                colReqIdEq(colReqId),
+                colReqManagerEq(colReqManager),
+                colResIdEq(colResId),
+                colResManagerEq(colResManager),
+                createdDateBetween(startDate, endDate),
+                cursorCondition(cursor, sortBy)
+            )
+            .orderBy(getOrderSpecifier(sortBy))
+            .limit(size + 1L)
+            .fetch();
+
+        boolean hasNext = collaborations.size() > size;
+        List<Collaboration> rows = hasNext ? collaborations.subList(0, size) : collaborations;
+
+        // 2. 담당자 정보 일괄 조회 후 DTO 변환
+        Map<Long, Manager> managers = fetchManagers(rows);
+
+        List<CollaborationSummaryResponseDTO> content = rows.stream()
+            .map(c -> toSummaryResponseDTO(c, managers))
+            .collect(Collectors.toList());
+
+        // 3. size번째 행의 정렬 키로 다음 커서 생성
+        String nextCursor = null;
+        if (hasNext) {
+            Collaboration last = rows.get(rows.size() - 1);
+            nextCursor = new PageCursor(sortBy, last.getCreatedDate(), last.getColId(), null).encode();
+        }
+
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    // 내보내기용 전체 조회 (fetch size 단위로 나눠 읽는 커서, 호출한 쪽에서 트랜잭션 안에서 닫아야 한다)
+    @Override
+    public Stream<CollaborationRow> streamCollaborations(
+        int fetchSize,
+        Long colId,
+        ColStatus colStatus,
+        String colReqManager,
+        Long colReqId,
+        String colResManager,
+        Long colResId,
+        LocalDate startDate,
+        LocalDate endDate,
+        String sortBy
+    ) {
+        return queryFactory
+            .select(Projections.constructor(
+                CollaborationRow.class,
+                collaboration.colId,
+                collaboration.question.questionId,
+                collaboration.colRequestId,
+                collaboration.colResponseId,
+                collaboration.colStatus,
+                collaboration.colContents,
+                collaboration.colReply,
+                collaboration.createdDate
+            ))
+            .from(collaboration)
+            .where(
+                colIdEq(colId),
+                colStatusEq(colStatus),
+                colReqIdEq(colReqId),
+                colReqManagerEq(colReqManager),
+                colResIdEq(colResId),
+                colResManagerEq(colResManager),
+                createdDateBetween(startDate, endDate)
+            )
+            .orderBy(getOrderSpecifier(sortBy))
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .stream();
+    }
+
+    private CollaborationSummaryResponseDTO toSummaryResponseDTO(
+        Collaboration c,
+        Map<Long, Manager> managers
+    ) {
+        Manager colReqManagerInfo = managers.get(c.getColRequestId());
+        Manager colResManagerInfo = managers.get(c.getColResponseId());
 
-        // 5. 페이징된 CollaborationSummaryResponseDTO 리스트 반환
-        return new PageImpl<>(content, pageable, total);
+        return CollaborationSummaryResponseDTO.builder()
+            .colId(c.getColId())
+            .questionId(c.getQuestion() != null ? c.getQuestion().getQuestionId() : null)
+            .colReqId(c.getColRequestId())
+            .colReqManager(colReqManagerInfo != null ? colReqManagerInfo.getName() : null)
+            .colResId(c.getColResponseId())
+            .colResManager(colResManagerInfo != null ? colResManagerInfo.getName() : null)
+            .colStatus(c.getColStatus())
+            .colContents(c.getColContents())
+            .createdDate(c.getCreatedDate())
+            .build();
+    }
+
+    // 요청/응답 담당자 정보를 manager_directory에서 먼저 조회하고, 아직 동기화되지 않은 ID만 user 서비스에 일괄 조회
+    private Map<Long, Manager> fetchManagers(List<Collaboration> collaborations) {
+        Set<Long> managerIds = new HashSet<>();
+        collaborations.forEach(c -> {
+            if (c.getColRequestId() != null) {
+                managerIds.add(c.getColRequestId());
+            }
+            if (c.getColResponseId() != null) {
+                managerIds.add(c.getColResponseId());
+            }
+        });
+
+        if (managerIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Manager> managers = new HashMap<>();
+        queryFactory
+            .selectFrom(managerDirectory)
+            .where(managerDirectory.userId.in(managerIds))
+            .fetch()
+            .forEach(directory -> managers.put(directory.getUserId(), directory.toManager()));
+
+        Set<Long> missingIds = new HashSet<>(managerIds);
+        missingIds.removeAll(managers.keySet());
+
+        if (missingIds.isEmpty()) {
+            return managers;
+        }
+
+        managers.putAll(userProfileReader.findManagers(missingIds));
+
+        return managers;
     }
 
     private OrderSpecifier<?>[] getOrderSpecifier(String sortBy) {
@@ -127,6 +269,22 @@ public class CollaborationRepositoryImpl implements CollaborationRepositoryCusto
         }
     }
 
+    // getOrderSpecifier 와 같은 순서로 커서 다음 행부터 조회하는 조건
+    private BooleanExpression cursorCondition(PageCursor cursor, String sortBy) {
+        if (cursor == null) {
+            return null;
+        }
+
+        switch (sortBy) {
+            case "LATEST":
+                return KeysetCondition.descending(collaboration.createdDate, collaboration.colId, cursor);
+            case "OLDEST":
+                return KeysetCondition.ascending(collaboration.createdDate, collaboration.colId, cursor);
+            default:
+                throw new CommonException(ErrorCode.INVALID_ORDER_CONDITION);
+        }
+    }
+
     private BooleanExpression colIdEq(Long colId) {
         return colId != null ? collaboration.colId.eq(colId) : null;
     }
@@ -135,9 +293,25 @@ public class CollaborationRepositoryImpl implements CollaborationRepositoryCusto
         return colStatus != null ? collaboration.colStatus.eq(colStatus) : null;
     }
 
-//    private BooleanExpression colReqManagerEq(String colReqManager) {
-//        return StringUtils.hasText(colReqManager) ? manager.name.eq(colReqManager) : null;
-//    }
+    private BooleanExpression colReqManagerEq(String colReqManager) {
+        return StringUtils.hasText(colReqManager)
+            ? collaboration.colRequestId.in(managerIdsByName(colReqManager))
+            : null;
+    }
+
+    private BooleanExpression colResManagerEq(String colResManager) {
+        return StringUtils.hasText(colResManager)
+            ? collaboration.colResponseId.in(managerIdsByName(colResManager))
+            : null;
+    }
+
+    // lower(name) = lower(?) 로 비교하므로 idx_manager_directory_lower_name 식 인덱스를 탄다
+    private JPQLQuery<Long> managerIdsByName(String name) {
+        return JPAExpressions
+            .select(managerDirectory.userId)
+            .from(managerDirectory)
+            .where(managerDirectory.name.equalsIgnoreCase(name));
+    }
 
     private BooleanExpression colReqIdEq(Long colReqId) {
         return colReqId != null ? collaboration.colRequestId.eq(colReqId) : null;
@@ -147,23 +321,19 @@ public class CollaborationRepositoryImpl implements CollaborationRepositoryCusto
         return colResId != null ? collaboration.colResponseId.eq(colResId) : null;
     }
 
+    // 컬럼을 가공하지 않고 [startDate 00:00, endDate 다음날 00:00) 반개구간으로 비교 (created_date 인덱스 사용 가능)
     private BooleanExpression createdDateBetween(LocalDate startDate, LocalDate endDate) {
-        if (startDate == null && endDate == null) {
-            return null;
-        }
+        BooleanExpression from = startDate != null
+            ? collaboration.createdDate.goe(startDate.atStartOfDay())
+            : null;
+        BooleanExpression to = endDate != null
+            ? collaboration.createdDate.lt(endDate.plusDays(1).atStartOfDay())
+            : null;
 
-        DateTemplate<LocalDate> dateTemplate = Expressions.dateTemplate(
-            LocalDate.class,
-            "DATE({0})",
-            collaboration.createdDate
-        );
-
-        if (startDate != null && endDate != null) {
-            return dateTemplate.between(startDate, endDate);
-        } else if (startDate != null) {
-            return dateTemplate.goe(startDate);
-        } else {
-            return dateTemplate.loe(endDate);
+        if (from == null) {
+            return to;
         }
+
+        return to != null ? from.and(to) : from;
     }
 }
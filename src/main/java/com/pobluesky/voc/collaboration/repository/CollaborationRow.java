@@ -0,0 +1,29 @@
+package com.pobluesky.voc.collaboration.repository;
+
+import com.pobluesky.voc.collaboration.entity.ColStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 협업 목록 내보내기용 프로젝션
+ * question 연관관계는 FK 값(question_id)만 조회한다.
+ */
+public record CollaborationRow(
+
+    Long colId,
+
+    Long questionId,
+
+    Long colRequestId,
+
+    Long colResponseId,
+
+    ColStatus colStatus,
+
+    String colContents,
+
+    String colReply,
+
+    LocalDateTime createdDate
+
+) {
+}
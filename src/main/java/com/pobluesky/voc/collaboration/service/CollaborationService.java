@@ -9,20 +9,39 @@ import com.pobluesky.voc.collaboration.dto.response.CollaborationSummaryResponse
 import com.pobluesky.voc.collaboration.entity.ColStatus;
 import com.pobluesky.voc.collaboration.entity.Collaboration;
 import com.pobluesky.voc.collaboration.repository.CollaborationRepository;
+import com.pobluesky.voc.collaboration.repository.CollaborationRow;
+import com.pobluesky.voc.dashboard.entity.MonthlyStat;
+import com.pobluesky.voc.dashboard.entity.StatType;
+import com.pobluesky.voc.dashboard.service.DashboardCounterService;
+import com.pobluesky.voc.dashboard.service.DashboardStatService;
+import com.pobluesky.voc.dashboard.service.LatencyHistogramService;
 import com.pobluesky.voc.feign.FileClient;
 import com.pobluesky.voc.feign.Manager;
 import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.feign.UserProfileReader;
 import com.pobluesky.voc.feign.FileInfo;
+import com.pobluesky.voc.global.entity.Department;
 import com.pobluesky.voc.global.error.CommonException;
 import com.pobluesky.voc.global.error.ErrorCode;
 import com.pobluesky.voc.global.security.UserRole;
+import com.pobluesky.voc.global.security.UserTokenResolver;
+import com.pobluesky.voc.global.util.PageCursor;
+import com.pobluesky.voc.global.util.export.ExportFormat;
+import com.pobluesky.voc.global.util.export.ExportStreamer;
+import com.pobluesky.voc.global.util.model.CursorPage;
+import com.pobluesky.voc.manager.entity.ManagerDirectory;
+import com.pobluesky.voc.manager.repository.ManagerDirectoryRepository;
 import com.pobluesky.voc.question.entity.Question;
 import com.pobluesky.voc.question.entity.QuestionStatus;
 import com.pobluesky.voc.question.repository.QuestionRepository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.pobluesky.voc.global.redisson.DistributedLock;
 import lombok.RequiredArgsConstructor;
@@ -33,19 +52,37 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @RequiredArgsConstructor
 public class CollaborationService {
 
+    // CollaborationRepositoryImpl 정렬 기준
+    private static final Set<String> SORTS = Set.of("LATEST", "OLDEST");
+
     private final CollaborationRepository collaborationRepository;
 
     private final QuestionRepository questionRepository;
 
     private final UserClient userClient;
 
+    private final UserProfileReader userProfileReader;
+
+    private final UserTokenResolver userTokenResolver;
+
     private final FileClient fileClient;
 
+    private final DashboardStatService dashboardStatService;
+
+    private final DashboardCounterService dashboardCounterService;
+
+    private final LatencyHistogramService latencyHistogramService;
+
+    private final ManagerDirectoryRepository managerDirectoryRepository;
+
+    private final ExportStreamer exportStreamer;
+
     // 협업 조회 without paging
     @Transactional(readOnly = true)
     public Page<CollaborationSummaryResponseDTO> getAllCollaborations(
@@ -62,15 +99,7 @@ public class CollaborationService {
         LocalDate startDate,
         LocalDate endDate
     ) {
-        Long userId = userClient.parseToken(token);
-
-        Manager manager = userClient.getManagerByIdWithoutToken(userId).getData();
-        if(manager == null) {
-            throw new CommonException(ErrorCode.USER_NOT_FOUND);
-        }
-
-        if(manager.getRole() == UserRole.CUSTOMER)
-            throw new CommonException(ErrorCode.UNAUTHORIZED_USER_MANAGER);
+        validateManager(token);
 
         Pageable pageable = PageRequest.of(page, size);
 
@@ -88,18 +117,85 @@ public class CollaborationService {
         );
     }
 
+    // 협업 목록 내보내기 - 목록 조회와 같은 필터, 페이징 없이 전체
+    public StreamingResponseBody exportCollaborations(
+        String token,
+        ExportFormat format,
+        String sortBy,
+        Long colId,
+        ColStatus colStatus,
+        String colReqManager,
+        Long colReqId,
+        String colResManager,
+        Long colResId,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        validateManager(token);
+
+        // 본문을 쓰기 시작한 뒤에는 오류 응답을 줄 수 없으므로 스트림을 만들기 전에 검증한다
+        validateSort(sortBy);
+
+        return exportStreamer.stream(
+            format,
+            "협업 목록",
+            List.of("협업 번호", "질문 번호", "요청 담당자", "응답 담당자", "상태", "협업 내용", "회신 내용", "요청일"),
+            fetchSize -> collaborationRepository.streamCollaborations(
+                fetchSize,
+                colId,
+                colStatus,
+                colReqManager,
+                colReqId,
+                colResManager,
+                colResId,
+                startDate,
+                endDate,
+                sortBy
+            ),
+            this::toExportRows
+        );
+    }
+
+    // 협업 조회 with cursor
+    @Transactional(readOnly = true)
+    public CursorPage<CollaborationSummaryResponseDTO> getAllCollaborationsWithCursor(
+        String token,
+        String cursor,
+        int size,
+        String sortBy,
+        Long colId,
+        ColStatus colStatus,
+        String colReqManager,
+        Long colReqId,
+        String colResManager,
+        Long colResId,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        validateManager(token);
+
+        return collaborationRepository.findAllCollaborationsRequestWithCursor(
+            PageCursor.decode(cursor, sortBy),
+            PageCursor.pageSize(size),
+            colId,
+            colStatus,
+            colReqManager,
+            colReqId,
+            colResManager,
+            colResId,
+            startDate,
+            endDate,
+            sortBy
+        );
+    }
+
     @Transactional(readOnly = true)
     public CollaborationDetailResponseDTO getCollaborationById(
         String token,
         Long questionId,
         Long collaborationId
     ) {
-        Long userId = userClient.parseToken(token);
-
-        Manager manager = userClient.getManagerByIdWithoutToken(userId).getData();
-        if(manager == null) {
-            throw new CommonException(ErrorCode.USER_NOT_FOUND);
-        }
+        validateManager(token);
 
         Question question = questionRepository.findById(questionId)
             .orElseThrow(() -> new CommonException(ErrorCode.QUESTION_NOT_FOUND));
@@ -121,7 +217,7 @@ public class CollaborationService {
         MultipartFile file,
         CollaborationCreateRequestDTO requestDTO
         ) {
-        Long userId = userClient.parseToken(token);
+        Long userId = userTokenResolver.resolveUserId(token);
 
         if(!userClient.managerExists(userId)){
             throw new CommonException(ErrorCode.USER_NOT_FOUND);
@@ -158,6 +254,17 @@ public class CollaborationService {
         );
 
         Collaboration savedCollaboration = collaborationRepository.save(collaborationEntity);
+        dashboardStatService.recordCollaboration(
+            savedCollaboration.getCreatedDate(),
+            savedCollaboration.getColRequestId(),
+            savedCollaboration.getColResponseId()
+        );
+        dashboardCounterService.recordCollaborationTransition(
+            savedCollaboration.getColRequestId(),
+            savedCollaboration.getColResponseId(),
+            null,
+            savedCollaboration.getColStatus()
+        );
 
         return CollaborationResponseDTO.from(savedCollaboration,userClient);
     }
@@ -169,7 +276,7 @@ public class CollaborationService {
         MultipartFile file,
         CollaborationUpdateRequestDTO requestDTO
     ) {
-        Long userId = userClient.parseToken(token);
+        Long userId = userTokenResolver.resolveUserId(token);
 
         Collaboration collaboration = validateCollaboration(collaborationId);
 
@@ -199,9 +306,18 @@ public class CollaborationService {
         if(!userId.equals(collaboration.getColResponseId()))
             throw new CommonException(ErrorCode.RESMANAGER_NOT_MACHED);
 
+        ColStatus previousStatus = collaboration.getColStatus();
+
         collaboration.writeColReply(requestDTO.colReply());
         collaboration.decideCollaboration(requestDTO.isAccepted());
 
+        dashboardCounterService.recordCollaborationTransition(
+            collaboration.getColRequestId(),
+            collaboration.getColResponseId(),
+            previousStatus,
+            collaboration.getColStatus()
+        );
+
         String fileName = null;
         String filePath = null;
 
@@ -221,7 +337,7 @@ public class CollaborationService {
         String token,
         Long collaborationId
     ) {
-        Long userId = userClient.parseToken(token);
+        Long userId = userTokenResolver.resolveUserId(token);
 
         if(!userClient.managerExists(userId)){
             throw new CommonException(ErrorCode.USER_NOT_FOUND);
@@ -232,8 +348,33 @@ public class CollaborationService {
         if(!userId.equals(collaboration.getColResponseId()))
             throw new CommonException(ErrorCode.RESMANAGER_NOT_MACHED);
 
+        ColStatus previousStatus = collaboration.getColStatus();
+
         collaboration.completeCollaboration();
 
+        dashboardCounterService.recordCollaborationTransition(
+            collaboration.getColRequestId(),
+            collaboration.getColResponseId(),
+            previousStatus,
+            collaboration.getColStatus()
+        );
+
+        // 이미 완료된 협업을 다시 완료하는 경우는 소요 시간에 넣지 않는다
+        // 부서는 트랜잭션 안에서 user 서비스를 호출하지 않도록 로컬 manager_directory 에서 조회한다
+        // (아직 동기화되지 않은 담당자는 부서별 집계에서만 빠진다)
+        if (previousStatus != ColStatus.COMPLETE) {
+            Department department = managerDirectoryRepository.findById(userId)
+                .map(ManagerDirectory::getDepartment)
+                .orElse(null);
+
+            latencyHistogramService.recordCollaboration(
+                collaboration.getCreatedDate(),
+                LocalDateTime.now(),
+                userId,
+                department
+            );
+        }
+
         return CollaborationDetailResponseDTO.from(collaboration,userClient);
     }
 
@@ -244,7 +385,7 @@ public class CollaborationService {
         MultipartFile file,
         CollaborationModifyRequestDTO requestDTO
     ) {
-        Long userId = userClient.parseToken(token);
+        Long userId = userTokenResolver.resolveUserId(token);
 
         Collaboration collaboration = validateCollaboration(collaborationId);
 
@@ -281,20 +422,29 @@ public class CollaborationService {
 
     // 월별 담당자별 협업 처리 건수
     @Transactional(readOnly = true)
-    public Map<String, List<Object[]>> getAverageCountPerMonth(String token) {
-        Long userId = userClient.parseToken(token);
+    public Map<String, List<Object[]>> getAverageCountPerMonth(String token, int year) {
+        Manager manager = validateManager(token);
+
+        Map<String, List<Object[]>> results = new HashMap<>();
+
+        results.put("total", dashboardStatService.getMonthlyCounts(StatType.COLLABORATION, MonthlyStat.TOTAL_MANAGER_ID, year));
+        results.put("manager", dashboardStatService.getMonthlyCounts(StatType.COLLABORATION, manager.getUserId(), year));
+
+        return results;
+    }
+
+    private Manager validateManager(String token) {
+        Long userId = userTokenResolver.resolveUserId(token);
 
         Manager manager = userClient.getManagerByIdWithoutToken(userId).getData();
-        if(manager == null){
+        if(manager == null) {
             throw new CommonException(ErrorCode.USER_NOT_FOUND);
         }
 
-        Map<String, List<Object[]>> results = new HashMap<>();
-
-        results.put("total", collaborationRepository.findAverageCountPerMonth());
-        results.put("manager", collaborationRepository.findAverageCountPerMonthByManager(manager.getUserId()));
+        if(manager.getRole() == UserRole.CUSTOMER)
+            throw new CommonException(ErrorCode.UNAUTHORIZED_USER_MANAGER);
 
-        return results;
+        return manager;
     }
 
     private Collaboration validateCollaboration(Long collaborationId) {
@@ -354,4 +504,43 @@ public class CollaborationService {
             }
         }
     }
+
+    // chunk 단위로 요청/응답 담당자명을 한 번에 일괄 조회
+    private List<List<?>> toExportRows(List<CollaborationRow> rows) {
+        Set<Long> managerIds = new HashSet<>();
+        rows.forEach(row -> {
+            if (row.colRequestId() != null) {
+                managerIds.add(row.colRequestId());
+            }
+            if (row.colResponseId() != null) {
+                managerIds.add(row.colResponseId());
+            }
+        });
+
+        Map<Long, Manager> managers = userProfileReader.findManagers(managerIds);
+
+        return rows.stream()
+            .<List<?>>map(row -> {
+                Manager reqManager = managers.get(row.colRequestId());
+                Manager resManager = managers.get(row.colResponseId());
+
+                return Arrays.asList(
+                    row.colId(),
+                    row.questionId(),
+                    reqManager != null ? reqManager.getName() : null,
+                    resManager != null ? resManager.getName() : null,
+                    row.colStatus() != null ? row.colStatus().getStatus() : null,
+                    row.colContents(),
+                    row.colReply(),
+                    row.createdDate()
+                );
+            })
+            .toList();
+    }
+
+    private void validateSort(String sortBy) {
+        if (!SORTS.contains(sortBy)) {
+            throw new CommonException(ErrorCode.UNSUPPORTED_SORT);
+        }
+    }
 }
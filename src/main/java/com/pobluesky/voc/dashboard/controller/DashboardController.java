@@ -0,0 +1,111 @@
+package com.pobluesky.voc.dashboard.controller;
+
+import com.pobluesky.voc.dashboard.dto.response.LatencySummaryResponseDTO;
+import com.pobluesky.voc.dashboard.dto.response.ReportStatusResponseDTO;
+import com.pobluesky.voc.dashboard.entity.LatencyMetric;
+import com.pobluesky.voc.dashboard.entity.ReportStatus;
+import com.pobluesky.voc.dashboard.service.DashboardCounterService;
+import com.pobluesky.voc.dashboard.service.DashboardReportService;
+import com.pobluesky.voc.dashboard.service.LatencyHistogramService;
+import com.pobluesky.voc.global.entity.Department;
+import com.pobluesky.voc.global.util.FileTransfer;
+import com.pobluesky.voc.global.util.ResponseFactory;
+import com.pobluesky.voc.global.util.model.JsonResult;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardCounterService dashboardCounterService;
+
+    private final LatencyHistogramService latencyHistogramService;
+
+    private final DashboardReportService dashboardReportService;
+
+    @GetMapping("/managers/counters")
+    @Operation(summary = "실시간 처리 현황", description = "전체 및 로그인 담당자의 답변 건수, 협업 상태별 건수, 질문 상태별 건수를 조회한다.")
+    public ResponseEntity<JsonResult> getCounters(
+        @RequestHeader("Authorization") String token
+    ) {
+        Map<String, Map<String, Long>> response = dashboardCounterService.getCounters(token);
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(ResponseFactory.getSuccessJsonResult(response));
+    }
+
+    @GetMapping("/managers/latency")
+    @Operation(summary = "답변/협업 소요 시간 분위수", description = "질문 등록부터 첫 답변, 협업 요청부터 완료까지의 p50/p90/p99(분)를 전체 및 담당자/부서별로 조회한다.")
+    public ResponseEntity<JsonResult> getLatencySummaries(
+        @RequestHeader("Authorization") String token,
+        @RequestParam(required = false) Long managerId,
+        @RequestParam(required = false) Department department
+    ) {
+        Map<String, Map<LatencyMetric, LatencySummaryResponseDTO>> response =
+            latencyHistogramService.getSummaries(token, managerId, department);
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(ResponseFactory.getSuccessJsonResult(response));
+    }
+
+    @PostMapping("/managers/reports")
+    @Operation(summary = "월간 리포트 생성 요청", description = "로그인 담당자의 월간 대시보드 PDF 생성을 요청한다. 이미 생성된 리포트는 다시 만들지 않는다.")
+    public ResponseEntity<JsonResult> requestReport(
+        @RequestHeader("Authorization") String token,
+        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+    ) {
+        ReportStatusResponseDTO response = dashboardReportService.requestReport(token, month);
+
+        HttpStatus status = response.status() == ReportStatus.READY ? HttpStatus.OK : HttpStatus.ACCEPTED;
+
+        return ResponseEntity.status(status)
+            .body(ResponseFactory.getSuccessJsonResult(response));
+    }
+
+    @GetMapping("/managers/reports/{month}/status")
+    @Operation(summary = "월간 리포트 생성 상태", description = "월간 대시보드 PDF의 생성 상태(PENDING, READY, FAILED)를 조회한다.")
+    public ResponseEntity<JsonResult> getReportStatus(
+        @RequestHeader("Authorization") String token,
+        @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+    ) {
+        ReportStatusResponseDTO response = dashboardReportService.getReportStatus(token, month);
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(ResponseFactory.getSuccessJsonResult(response));
+    }
+
+    @GetMapping("/managers/reports/{month}")
+    @Operation(summary = "월간 리포트 다운로드", description = "생성된 월간 대시보드 PDF를 내려받는다.")
+    public void downloadReport(
+        @RequestHeader("Authorization") String token,
+        @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        FileTransfer.send(
+            dashboardReportService.getReportFile(token, month),
+            MediaType.APPLICATION_PDF_VALUE,
+            DashboardReportService.fileName(month),
+            request,
+            response
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.pobluesky.voc.dashboard.dto.response;
+
+import com.pobluesky.voc.dashboard.service.LatencyHistogram;
+import java.util.Arrays;
+import lombok.Builder;
+
+// 소요 시간 분위수 (단위: 분, 구간 상한 기준, 마지막 구간이면 openEnded)
+@Builder
+public record LatencySummaryResponseDTO(
+
+    long count,
+
+    LatencyHistogram.Percentile p50,
+
+    LatencyHistogram.Percentile p90,
+
+    LatencyHistogram.Percentile p99
+) {
+
+    public static LatencySummaryResponseDTO from(long[] counts) {
+
+        return LatencySummaryResponseDTO.builder()
+            .count(Arrays.stream(counts).sum())
+            .p50(LatencyHistogram.percentile(counts, 0.50))
+            .p90(LatencyHistogram.percentile(counts, 0.90))
+            .p99(LatencyHistogram.percentile(counts, 0.99))
+            .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.pobluesky.voc.dashboard.dto.response;
+
+import com.pobluesky.voc.dashboard.entity.ReportStatus;
+import java.time.YearMonth;
+import lombok.Builder;
+
+@Builder
+public record ReportStatusResponseDTO(
+
+    YearMonth month,
+
+    Long managerId,
+
+    ReportStatus status
+) {
+}
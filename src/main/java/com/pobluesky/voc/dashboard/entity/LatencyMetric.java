@@ -0,0 +1,6 @@
+package com.pobluesky.voc.dashboard.entity;
+
+public enum LatencyMetric {
+    ANSWER, // 질문 등록 -> 첫 답변
+    COLLABORATION // 협업 요청 -> 협업 완료
+}
@@ -0,0 +1,28 @@
+package com.pobluesky.voc.dashboard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대시보드 월별 집계 (유형, 담당자, 연, 월)
+ * 답변/협업 생성 시 증분 반영하고, 재집계 작업이 주기적으로 원본 기준으로 다시 맞춘다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "monthly_stat")
+public class MonthlyStat {
+
+    public static final long TOTAL_MANAGER_ID = 0L;
+
+    @EmbeddedId
+    private MonthlyStatId id;
+
+    @Column(name = "stat_count")
+    private Long statCount;
+}
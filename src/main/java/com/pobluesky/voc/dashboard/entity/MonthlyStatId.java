@@ -0,0 +1,33 @@
+package com.pobluesky.voc.dashboard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MonthlyStatId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stat_type")
+    private StatType statType;
+
+    @Column(name = "manager_id")
+    private Long managerId; // 0: 전체 합계
+
+    @Column(name = "stat_year")
+    private Integer statYear;
+
+    @Column(name = "stat_month")
+    private Integer statMonth;
+}
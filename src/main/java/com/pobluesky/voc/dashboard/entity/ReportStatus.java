@@ -0,0 +1,7 @@
+package com.pobluesky.voc.dashboard.entity;
+
+public enum ReportStatus {
+    PENDING, // 생성 중
+    READY, // 생성 완료 (저장된 파일 제공)
+    FAILED // 생성 실패 (다시 요청하면 재시도)
+}
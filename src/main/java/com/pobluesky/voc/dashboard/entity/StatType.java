@@ -0,0 +1,6 @@
+package com.pobluesky.voc.dashboard.entity;
+
+public enum StatType {
+    ANSWER, // VoC 답변
+    COLLABORATION // 협업
+}
@@ -0,0 +1,96 @@
+package com.pobluesky.voc.dashboard.repository;
+
+import com.pobluesky.voc.dashboard.entity.MonthlyStat;
+import com.pobluesky.voc.dashboard.entity.MonthlyStatId;
+import com.pobluesky.voc.dashboard.entity.StatType;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MonthlyStatRepository extends JpaRepository<MonthlyStat, MonthlyStatId> {
+
+    // PK 조회 (유형, 담당자, 연도) -> 최대 12행
+    @Query("SELECT s FROM MonthlyStat s " +
+        "WHERE s.id.statType = :statType AND s.id.managerId = :managerId AND s.id.statYear = :statYear")
+    List<MonthlyStat> findMonthlyStats(
+        @Param("statType") StatType statType,
+        @Param("managerId") Long managerId,
+        @Param("statYear") Integer statYear
+    );
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_stat (stat_type, manager_id, stat_year, stat_month, stat_count) " +
+        "VALUES (:statType, :managerId, :statYear, :statMonth, 1) " +
+        "ON CONFLICT (stat_type, manager_id, stat_year, stat_month) " +
+        "DO UPDATE SET stat_count = monthly_stat.stat_count + 1", nativeQuery = true)
+    void increment(
+        @Param("statType") String statType,
+        @Param("managerId") Long managerId,
+        @Param("statYear") int statYear,
+        @Param("statMonth") int statMonth
+    );
+
+    /* [Start] 원본 기준 재집계 */
+    // 한 문장으로 처리: 재계산한 행은 upsert 로 덮어쓰고, 재계산 결과에 없는 행만 지운다
+    // (DELETE 후 INSERT 로 나누면 그 사이 커밋된 increment 의 새 행과 PK 가 충돌해 재집계 전체가 롤백된다)
+    @Modifying
+    @Query(value = "WITH recomputed (manager_id, stat_year, stat_month, stat_count) AS (" +
+        "    SELECT 0, CAST(EXTRACT(YEAR FROM a.created_date) AS INT), CAST(EXTRACT(MONTH FROM a.created_date) AS INT), COUNT(*) " +
+        "    FROM answer a " +
+        "    WHERE a.created_date IS NOT NULL " +
+        "    GROUP BY 2, 3 " +
+        "    UNION ALL " +
+        "    SELECT a.manager_id, CAST(EXTRACT(YEAR FROM a.created_date) AS INT), CAST(EXTRACT(MONTH FROM a.created_date) AS INT), COUNT(*) " +
+        "    FROM answer a " +
+        "    WHERE a.created_date IS NOT NULL AND a.manager_id IS NOT NULL " +
+        "    GROUP BY 1, 2, 3" +
+        "), upserted AS (" +
+        "    INSERT INTO monthly_stat (stat_type, manager_id, stat_year, stat_month, stat_count) " +
+        "    SELECT 'ANSWER', r.manager_id, r.stat_year, r.stat_month, r.stat_count FROM recomputed r " +
+        "    ON CONFLICT (stat_type, manager_id, stat_year, stat_month) " +
+        "    DO UPDATE SET stat_count = EXCLUDED.stat_count" +
+        ") " +
+        "DELETE FROM monthly_stat s " +
+        "WHERE s.stat_type = 'ANSWER' AND NOT EXISTS (" +
+        "    SELECT 1 FROM recomputed r " +
+        "    WHERE r.manager_id = s.manager_id AND r.stat_year = s.stat_year AND r.stat_month = s.stat_month" +
+        ")",
+        nativeQuery = true)
+    void rebuildAnswerStats();
+
+    // 요청/응답 담당자가 같은 협업은 한 번만 센다
+    @Modifying
+    @Query(value = "WITH recomputed (manager_id, stat_year, stat_month, stat_count) AS (" +
+        "    SELECT 0, CAST(EXTRACT(YEAR FROM c.created_date) AS INT), CAST(EXTRACT(MONTH FROM c.created_date) AS INT), COUNT(*) " +
+        "    FROM collaboration c " +
+        "    WHERE c.created_date IS NOT NULL " +
+        "    GROUP BY 2, 3 " +
+        "    UNION ALL " +
+        "    SELECT p.manager_id, CAST(EXTRACT(YEAR FROM p.created_date) AS INT), CAST(EXTRACT(MONTH FROM p.created_date) AS INT), COUNT(*) " +
+        "    FROM (" +
+        "        SELECT c.col_id, c.col_request_id AS manager_id, c.created_date FROM collaboration c " +
+        "        WHERE c.col_request_id IS NOT NULL AND c.created_date IS NOT NULL " +
+        "        UNION " +
+        "        SELECT c.col_id, c.col_response_id AS manager_id, c.created_date FROM collaboration c " +
+        "        WHERE c.col_response_id IS NOT NULL AND c.created_date IS NOT NULL" +
+        "    ) p " +
+        "    GROUP BY 1, 2, 3" +
+        "), upserted AS (" +
+        "    INSERT INTO monthly_stat (stat_type, manager_id, stat_year, stat_month, stat_count) " +
+        "    SELECT 'COLLABORATION', r.manager_id, r.stat_year, r.stat_month, r.stat_count FROM recomputed r " +
+        "    ON CONFLICT (stat_type, manager_id, stat_year, stat_month) " +
+        "    DO UPDATE SET stat_count = EXCLUDED.stat_count" +
+        ") " +
+        "DELETE FROM monthly_stat s " +
+        "WHERE s.stat_type = 'COLLABORATION' AND NOT EXISTS (" +
+        "    SELECT 1 FROM recomputed r " +
+        "    WHERE r.manager_id = s.manager_id AND r.stat_year = s.stat_year AND r.stat_month = s.stat_month" +
+        ")",
+        nativeQuery = true)
+    void rebuildCollaborationStats();
+    /* [End] 원본 기준 재집계 */
+}
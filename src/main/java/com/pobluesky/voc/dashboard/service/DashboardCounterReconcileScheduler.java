@@ -0,0 +1,115 @@
+package com.pobluesky.voc.dashboard.service;
+
+import com.pobluesky.voc.answer.repository.AnswerRepository;
+import com.pobluesky.voc.collaboration.entity.ColStatus;
+import com.pobluesky.voc.collaboration.repository.CollaborationRepository;
+import com.pobluesky.voc.global.redisson.DistributedLock;
+import com.pobluesky.voc.question.entity.QuestionStatus;
+import com.pobluesky.voc.question.repository.QuestionRepository;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대시보드 실시간 건수 재집계
+ * Redis 반영 실패나 커밋 직후 장애로 어긋난 건수를 DB 기준으로 덮어쓴다.
+ * DB 집계 전에 해시 스냅샷을 떠 두고, 집계 중 HINCRBY 가 반영된 키는 덮어쓰지 않고 다음 재집계로 넘긴다.
+ * 커밋은 됐지만 afterCommit HINCRBY 가 아직 반영되지 않은 전이는 집계와 증감에 모두 포함될 수 있으며, 다음 재집계에서 바로잡힌다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCounterReconcileScheduler {
+
+    private final AnswerRepository answerRepository;
+
+    private final CollaborationRepository collaborationRepository;
+
+    private final QuestionRepository questionRepository;
+
+    private final DashboardCounterService dashboardCounterService;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Scheduled(
+        initialDelayString = "${dashboard.counter.reconcile.initial-delay-ms}",
+        fixedDelayString = "${dashboard.counter.reconcile.interval-ms}"
+    )
+    @DistributedLock(key = "'dashboard-counter-reconcile'", leaseTime = 300L)
+    public void reconcileCounters() {
+        // 1. DB 집계 전 현재 해시 스냅샷 (전체 + 기존 담당자 키)
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(DashboardCounterService.TOTAL_KEY);
+        keys.addAll(scanManagerKeys());
+        Map<String, Map<String, String>> snapshot = dashboardCounterService.snapshot(keys);
+
+        // 2. DB 기준 재집계
+        Map<String, Long> total = new LinkedHashMap<>();
+        Map<Long, Map<String, Long>> managers = new HashMap<>();
+
+        total.put(DashboardCounterService.ANSWER_FIELD, answerRepository.count());
+        for (Object[] row : answerRepository.countGroupByManager()) {
+            managers.computeIfAbsent((Long) row[0], id -> new LinkedHashMap<>())
+                .put(DashboardCounterService.ANSWER_FIELD, (Long) row[1]);
+        }
+
+        for (Object[] row : collaborationRepository.countGroupByStatus()) {
+            total.put(DashboardCounterService.collaborationField((ColStatus) row[0]), (Long) row[1]);
+        }
+        for (Object[] row : collaborationRepository.countGroupByManagerAndStatus()) {
+            Long managerId = ((Number) row[0]).longValue();
+            ColStatus status = ColStatus.valueOf(String.valueOf(row[1]));
+            managers.computeIfAbsent(managerId, id -> new LinkedHashMap<>())
+                .put(DashboardCounterService.collaborationField(status), ((Number) row[2]).longValue());
+        }
+
+        for (Object[] row : questionRepository.countActiveGroupByStatus()) {
+            total.put(DashboardCounterService.questionField((QuestionStatus) row[0]), (Long) row[1]);
+        }
+
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        counts.put(DashboardCounterService.TOTAL_KEY, total);
+        managers.forEach((managerId, managerCounts) ->
+            counts.put(DashboardCounterService.managerKey(managerId), managerCounts));
+
+        // 3. 스냅샷 이후 바뀌지 않은 키만 교체 (DB 에 더 이상 건수가 없는 담당자 키는 삭제)
+        keys.addAll(counts.keySet());
+
+        int skipped = 0;
+        for (String key : keys) {
+            boolean replaced = dashboardCounterService.replaceIfUnchanged(
+                key,
+                snapshot.getOrDefault(key, Map.of()),
+                counts.getOrDefault(key, Map.of())
+            );
+            if (!replaced) {
+                skipped++;
+            }
+        }
+
+        log.info("Dashboard counter reconcile finished. keys={}, skipped={}", keys.size(), skipped);
+    }
+
+    private Set<String> scanManagerKeys() {
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(DashboardCounterService.MANAGER_KEY_PREFIX + "*")
+            .count(500)
+            .build();
+
+        Set<String> keys = new LinkedHashSet<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+
+        return keys;
+    }
+}
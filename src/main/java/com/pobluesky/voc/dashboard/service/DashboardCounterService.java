@@ -0,0 +1,275 @@
+package com.pobluesky.voc.dashboard.service;
+
+import com.pobluesky.voc.collaboration.entity.ColStatus;
+import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.global.error.CommonException;
+import com.pobluesky.voc.global.error.ErrorCode;
+import com.pobluesky.voc.global.security.UserTokenResolver;
+import com.pobluesky.voc.global.util.AfterCommit;
+import com.pobluesky.voc.question.entity.QuestionStatus;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대시보드 실시간 건수 (Redis Hash)
+ * 상태 전이마다 커밋 이후 HINCRBY 로 반영하고, 조회는 HGETALL 한 번(전체 + 담당자 파이프라인)으로 처리한다.
+ * 누락/중복은 DashboardCounterReconcileScheduler 가 DB 기준으로 바로잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardCounterService {
+
+    public static final String TOTAL_KEY = "dashboard:counter:total";
+
+    public static final String MANAGER_KEY_PREFIX = "dashboard:counter:manager:";
+
+    public static final String ANSWER_FIELD = "answer";
+
+    public static final String COLLABORATION_FIELD_PREFIX = "collaboration:";
+
+    public static final String QUESTION_FIELD_PREFIX = "question:";
+
+    // KEYS[i] 의 ARGV[2i-1] 필드에 ARGV[2i] 만큼 더한다 (한 전이의 증감을 원자적으로 반영)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "for i = 1, #KEYS do " +
+        "  redis.call('HINCRBY', KEYS[i], ARGV[2 * i - 1], ARGV[2 * i]) " +
+        "end " +
+        "return #KEYS",
+        Long.class
+    );
+
+    // ARGV[1] 개의 (필드, 값) 쌍이 현재 해시와 정확히 같을 때만 나머지 (필드, 값) 쌍으로 해시를 교체한다
+    private static final RedisScript<Long> REPLACE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>(
+        "local n = tonumber(ARGV[1]) " +
+        "if redis.call('HLEN', KEYS[1]) ~= n then return 0 end " +
+        "for i = 1, n do " +
+        "  if redis.call('HGET', KEYS[1], ARGV[2 * i]) ~= ARGV[2 * i + 1] then return 0 end " +
+        "end " +
+        "redis.call('DEL', KEYS[1]) " +
+        "for i = 2 * n + 2, #ARGV, 2 do " +
+        "  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+        "end " +
+        "return 1",
+        Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final UserClient userClient;
+
+    private final UserTokenResolver userTokenResolver;
+
+    /* [Start] 상태 전이 반영 */
+    public void recordAnswerCreated(Long managerId) {
+        Delta delta = new Delta()
+            .add(TOTAL_KEY, ANSWER_FIELD, 1);
+
+        if (managerId != null) {
+            delta.add(managerKey(managerId), ANSWER_FIELD, 1);
+        }
+
+        AfterCommit.run(() -> apply(delta));
+    }
+
+    // from 이 null 이면 생성
+    public void recordCollaborationTransition(Long colReqId, Long colResId, ColStatus from, ColStatus to) {
+        if (from == to) {
+            return;
+        }
+
+        Delta delta = new Delta();
+        for (String key : collaborationKeys(colReqId, colResId)) {
+            if (from != null) {
+                delta.add(key, collaborationField(from), -1);
+            }
+            if (to != null) {
+                delta.add(key, collaborationField(to), 1);
+            }
+        }
+
+        AfterCommit.run(() -> apply(delta));
+    }
+
+    // from 이 null 이면 생성, to 가 null 이면 삭제(비활성화)
+    public void recordQuestionTransition(QuestionStatus from, QuestionStatus to) {
+        if (from == to) {
+            return;
+        }
+
+        Delta delta = new Delta();
+        if (from != null) {
+            delta.add(TOTAL_KEY, questionField(from), -1);
+        }
+        if (to != null) {
+            delta.add(TOTAL_KEY, questionField(to), 1);
+        }
+
+        AfterCommit.run(() -> apply(delta));
+    }
+    /* [End] 상태 전이 반영 */
+
+    // 전체/로그인 담당자 건수 조회
+    public Map<String, Map<String, Long>> getCounters(String token) {
+        Long userId = userTokenResolver.resolveUserId(token);
+
+        if (!userClient.managerExists(userId)) {
+            throw new CommonException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        return getCounters(userId);
+    }
+
+    // 전체/담당자 건수 조회 (필드가 없는 항목은 0)
+    public Map<String, Map<String, Long>> getCounters(Long managerId) {
+        List<Object> entries = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForHash().entries(TOTAL_KEY);
+                operations.opsForHash().entries(managerKey(managerId));
+                return null;
+            }
+        });
+
+        Map<String, Map<String, Long>> results = new LinkedHashMap<>();
+        results.put("total", toCounts(entries.get(0), true));
+        results.put("manager", toCounts(entries.get(1), false));
+
+        return results;
+    }
+
+    // 재집계 전 해시 스냅샷 (키별 HGETALL 파이프라인, 없는 키는 빈 Map)
+    public Map<String, Map<String, String>> snapshot(Collection<String> keys) {
+        List<String> orderedKeys = new ArrayList<>(keys);
+        List<Object> entries = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                orderedKeys.forEach(key -> operations.opsForHash().entries(key));
+                return null;
+            }
+        });
+
+        Map<String, Map<String, String>> snapshot = new LinkedHashMap<>();
+        for (int i = 0; i < orderedKeys.size(); i++) {
+            Map<String, String> values = new LinkedHashMap<>();
+            if (entries.get(i) instanceof Map<?, ?> stored) {
+                stored.forEach((field, value) -> values.put(String.valueOf(field), String.valueOf(value)));
+            }
+            snapshot.put(orderedKeys.get(i), values);
+        }
+
+        return snapshot;
+    }
+
+    // 스냅샷 이후 증감이 없었던 경우에만 재집계 결과로 해시를 교체 (빈 결과면 삭제)
+    // 그 사이 반영된 HINCRBY 를 덮어쓰지 않도록 하고, 건너뛴 키는 다음 재집계에서 다시 맞춘다
+    public boolean replaceIfUnchanged(String key, Map<String, String> expected, Map<String, Long> counts) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(expected.size()));
+        expected.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        counts.forEach((field, count) -> {
+            args.add(field);
+            args.add(String.valueOf(count));
+        });
+
+        Long replaced = redisTemplate.execute(REPLACE_IF_UNCHANGED_SCRIPT, List.of(key), args.toArray());
+
+        return replaced != null && replaced == 1L;
+    }
+
+    public static String managerKey(Long managerId) {
+        return MANAGER_KEY_PREFIX + managerId;
+    }
+
+    public static String collaborationField(ColStatus status) {
+        return COLLABORATION_FIELD_PREFIX + status.name();
+    }
+
+    public static String questionField(QuestionStatus status) {
+        return QUESTION_FIELD_PREFIX + status.name();
+    }
+
+    private List<String> collaborationKeys(Long colReqId, Long colResId) {
+        List<String> keys = new ArrayList<>();
+        keys.add(TOTAL_KEY);
+
+        if (colReqId != null) {
+            keys.add(managerKey(colReqId));
+        }
+        // 요청/응답 담당자가 같으면 한 번만 센다
+        if (colResId != null && !Objects.equals(colReqId, colResId)) {
+            keys.add(managerKey(colResId));
+        }
+
+        return keys;
+    }
+
+    private Map<String, Long> toCounts(Object entries, boolean withQuestion) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put(ANSWER_FIELD, 0L);
+        for (ColStatus status : ColStatus.values()) {
+            counts.put(collaborationField(status), 0L);
+        }
+        if (withQuestion) {
+            for (QuestionStatus status : QuestionStatus.values()) {
+                counts.put(questionField(status), 0L);
+            }
+        }
+
+        if (entries instanceof Map<?, ?> stored) {
+            stored.forEach((field, value) -> {
+                if (counts.containsKey(String.valueOf(field))) {
+                    counts.put(String.valueOf(field), Long.parseLong(String.valueOf(value)));
+                }
+            });
+        }
+
+        return counts;
+    }
+
+    private void apply(Delta delta) {
+        if (delta.keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, delta.keys, delta.args.toArray());
+        } catch (Exception e) {
+            // 재집계 작업이 맞춰주므로 요청은 실패시키지 않는다
+            log.warn("Dashboard counter update failed. keys={}", delta.keys, e);
+        }
+    }
+
+    private static class Delta {
+
+        private final List<String> keys = new ArrayList<>();
+
+        private final List<String> args = new ArrayList<>();
+
+        private Delta add(String key, String field, long amount) {
+            keys.add(key);
+            args.add(field);
+            args.add(String.valueOf(amount));
+
+            return this;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.pobluesky.voc.dashboard.service;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월간 대시보드 리포트 PDF 렌더링 (A4 한 장)
+ * 기본 Type1 폰트만 사용하므로 이름 등 한글 값은 넣지 않고 번호/코드만 표기한다.
+ */
+@Component
+public class DashboardReportRenderer {
+
+    private static final PDFont FONT = PDType1Font.HELVETICA;
+
+    private static final PDFont BOLD_FONT = PDType1Font.HELVETICA_BOLD;
+
+    private static final float MARGIN = 50;
+
+    private static final Color ANSWER_COLOR = new Color(0x1f, 0x4e, 0x99);
+
+    private static final Color COLLABORATION_COLOR = new Color(0xe0, 0x8a, 0x1e);
+
+    private static final String[] MONTH_LABELS = {
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+    };
+
+    /**
+     * @param answerCounts        [0]: 전체, [1]: 담당자 - 해당 연도 [월, 건수] 12행
+     * @param collaborationCounts [0]: 전체, [1]: 담당자 - 해당 연도 [월, 건수] 12행
+     */
+    public void render(
+        Path target,
+        YearMonth month,
+        Long managerId,
+        List<List<Object[]>> answerCounts,
+        List<List<Object[]>> collaborationCounts
+    ) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+
+            float width = page.getMediaBox().getWidth();
+            float y = page.getMediaBox().getHeight() - MARGIN;
+
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                text(content, BOLD_FONT, 18, MARGIN, y, "VoC Dashboard Report - " + month);
+                y -= 20;
+                text(content, FONT, 10, MARGIN, y, "Manager #" + managerId + "   |   Generated at "
+                    + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
+
+                // 1. 해당 월 건수
+                y -= 40;
+                text(content, BOLD_FONT, 13, MARGIN, y, "Monthly totals (" + month + ")");
+                y -= 22;
+                y = row(content, y, "", "Manager", "All managers", true);
+                y = row(content, y, "Answers",
+                    count(answerCounts.get(1), month), count(answerCounts.get(0), month), false);
+                y = row(content, y, "Collaborations",
+                    count(collaborationCounts.get(1), month), count(collaborationCounts.get(0), month), false);
+
+                // 2. 연초부터 해당 월까지 담당자 월별 추이
+                y -= 30;
+                text(content, BOLD_FONT, 13, MARGIN, y, "Manager trend (" + month.getYear() + ")");
+                y -= 20;
+                chart(content, MARGIN, y, width - MARGIN * 2, 180,
+                    answerCounts.get(1), collaborationCounts.get(1), month.getMonthValue());
+            }
+
+            document.save(target.toFile());
+        }
+    }
+
+    private float row(PDPageContentStream content, float y, String label, String manager, String total, boolean header)
+        throws IOException {
+        PDFont font = header ? BOLD_FONT : FONT;
+
+        text(content, font, 11, MARGIN, y, label);
+        text(content, font, 11, MARGIN + 200, y, manager);
+        text(content, font, 11, MARGIN + 320, y, total);
+
+        return y - 18;
+    }
+
+    // 월별 막대 (답변/협업 나란히), 해당 월 이후는 그리지 않는다
+    private float chart(
+        PDPageContentStream content,
+        float x,
+        float top,
+        float width,
+        float height,
+        List<Object[]> answers,
+        List<Object[]> collaborations,
+        int lastMonth
+    ) throws IOException {
+        float bottom = top - height;
+
+        long max = 1;
+        for (int i = 0; i < lastMonth; i++) {
+            max = Math.max(max, Math.max(countAt(answers, i), countAt(collaborations, i)));
+        }
+
+        float slot = width / 12;
+        float barWidth = slot * 0.35f;
+
+        for (int i = 0; i < 12; i++) {
+            float slotX = x + slot * i;
+
+            if (i < lastMonth) {
+                bar(content, slotX + slot * 0.1f, bottom, barWidth, height * countAt(answers, i) / max, ANSWER_COLOR);
+                bar(content, slotX + slot * 0.1f + barWidth, bottom, barWidth,
+                    height * countAt(collaborations, i) / max, COLLABORATION_COLOR);
+            }
+
+            text(content, FONT, 8, slotX + slot * 0.2f, bottom - 12, MONTH_LABELS[i]);
+        }
+
+        content.setStrokingColor(Color.GRAY);
+        content.moveTo(x, bottom);
+        content.lineTo(x + width, bottom);
+        content.stroke();
+
+        float legendY = bottom - 30;
+        bar(content, x, legendY, 8, 8, ANSWER_COLOR);
+        text(content, FONT, 9, x + 12, legendY, "Answers");
+        bar(content, x + 80, legendY, 8, 8, COLLABORATION_COLOR);
+        text(content, FONT, 9, x + 92, legendY, "Collaborations");
+        text(content, FONT, 9, x + 200, legendY, "max = " + max);
+
+        return legendY;
+    }
+
+    private void bar(PDPageContentStream content, float x, float y, float width, float height, Color color)
+        throws IOException {
+        if (height <= 0) {
+            return;
+        }
+
+        content.setNonStrokingColor(color);
+        content.addRect(x, y, width, height);
+        content.fill();
+        content.setNonStrokingColor(Color.BLACK);
+    }
+
+    private void text(PDPageContentStream content, PDFont font, float size, float x, float y, String value)
+        throws IOException {
+        content.beginText();
+        content.setFont(font, size);
+        content.newLineAtOffset(x, y);
+        content.showText(value);
+        content.endText();
+    }
+
+    private String count(List<Object[]> counts, YearMonth month) {
+        return String.valueOf(countAt(counts, month.getMonthValue() - 1));
+    }
+
+    private long countAt(List<Object[]> counts, int index) {
+        if (counts == null || index >= counts.size()) {
+            return 0;
+        }
+
+        return ((Number) counts.get(index)[1]).longValue();
+    }
+}
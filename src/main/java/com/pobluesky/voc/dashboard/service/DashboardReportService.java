@@ -0,0 +1,234 @@
+package com.pobluesky.voc.dashboard.service;
+
+import com.pobluesky.voc.dashboard.dto.response.ReportStatusResponseDTO;
+import com.pobluesky.voc.dashboard.entity.MonthlyStat;
+import com.pobluesky.voc.dashboard.entity.ReportStatus;
+import com.pobluesky.voc.dashboard.entity.StatType;
+import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.global.error.CommonException;
+import com.pobluesky.voc.global.error.ErrorCode;
+import com.pobluesky.voc.global.security.UserTokenResolver;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 월간 대시보드 PDF 리포트
+ * 종료된 월만 (월, 담당자)별로 한 번 렌더링해 공유 스토리지에 저장하고, 이후 요청은 저장된 파일로 응답한다.
+ * 렌더링은 요청 스레드가 아닌 전용 스레드 풀에서 수행하며, 대기열이 가득 차면 요청을 거절한다.
+ * 진행/실패 상태는 Redis 키로 관리해 어느 인스턴스에서 조회해도 같은 상태를 돌려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardReportService {
+
+    private static final String PENDING_KEY_PREFIX = "dashboard:report:pending:";
+
+    private static final String FAILED_KEY_PREFIX = "dashboard:report:failed:";
+
+    private final DashboardStatService dashboardStatService;
+
+    private final DashboardReportRenderer dashboardReportRenderer;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final UserClient userClient;
+
+    private final UserTokenResolver userTokenResolver;
+
+    @Value("${report.storage-dir}")
+    private String storageDir;
+
+    @Value("${report.executor.pool-size}")
+    private int poolSize;
+
+    @Value("${report.executor.queue-capacity}")
+    private int queueCapacity;
+
+    // 렌더링 중 표시 유지 시간 (인스턴스가 중단되면 이 시간 이후 다시 요청 가능)
+    @Value("${report.pending-ttl}")
+    private Duration pendingTtl;
+
+    // 실패 표시 유지 시간
+    @Value("${report.failed-ttl}")
+    private Duration failedTtl;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(Paths.get(storageDir));
+
+        executor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("report-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // 리포트 생성 요청 (이미 있으면 READY, 다른 요청이 생성 중이면 PENDING, 없으면 작업을 등록하고 PENDING)
+    public ReportStatusResponseDTO requestReport(String token, YearMonth month) {
+        Long managerId = validateManager(token);
+
+        // 진행 중인 월은 데이터가 계속 바뀌므로 저장하지 않는다
+        if (!month.isBefore(YearMonth.now())) {
+            throw new CommonException(ErrorCode.INVALID_REPORT_PERIOD);
+        }
+
+        String key = reportKey(month, managerId);
+
+        if (Files.exists(reportPath(key))) {
+            return toStatus(month, managerId, ReportStatus.READY);
+        }
+
+        // 실패했던 리포트는 다시 요청하면 재시도
+        stringRedisTemplate.delete(FAILED_KEY_PREFIX + key);
+
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(PENDING_KEY_PREFIX + key, "1", pendingTtl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return toStatus(month, managerId, ReportStatus.PENDING);
+        }
+
+        try {
+            executor.execute(() -> render(key, month, managerId));
+        } catch (RejectedExecutionException e) {
+            stringRedisTemplate.delete(PENDING_KEY_PREFIX + key);
+            throw new CommonException(ErrorCode.REPORT_QUEUE_FULL);
+        }
+
+        return toStatus(month, managerId, ReportStatus.PENDING);
+    }
+
+    public ReportStatusResponseDTO getReportStatus(String token, YearMonth month) {
+        Long managerId = validateManager(token);
+        String key = reportKey(month, managerId);
+
+        if (Files.exists(reportPath(key))) {
+            return toStatus(month, managerId, ReportStatus.READY);
+        }
+
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(PENDING_KEY_PREFIX + key))) {
+            return toStatus(month, managerId, ReportStatus.PENDING);
+        }
+
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(FAILED_KEY_PREFIX + key))) {
+            return toStatus(month, managerId, ReportStatus.FAILED);
+        }
+
+        throw new CommonException(ErrorCode.REPORT_NOT_READY);
+    }
+
+    // 저장된 리포트 파일 (생성 실패/생성 전이면 예외)
+    public Path getReportFile(String token, YearMonth month) {
+        Long managerId = validateManager(token);
+        String key = reportKey(month, managerId);
+        Path path = reportPath(key);
+
+        if (Files.exists(path)) {
+            return path;
+        }
+
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(FAILED_KEY_PREFIX + key))) {
+            throw new CommonException(ErrorCode.REPORT_GENERATION_FAILED);
+        }
+
+        throw new CommonException(ErrorCode.REPORT_NOT_READY);
+    }
+
+    public static String fileName(YearMonth month) {
+        return "dashboard_" + month + ".pdf";
+    }
+
+    private void render(String key, YearMonth month, Long managerId) {
+        try {
+            writeReport(key, month, managerId);
+        } catch (Exception e) {
+            log.warn("Dashboard report rendering failed. key={}", key, e);
+            stringRedisTemplate.opsForValue().set(FAILED_KEY_PREFIX + key, "1", failedTtl);
+        } finally {
+            stringRedisTemplate.delete(PENDING_KEY_PREFIX + key);
+        }
+    }
+
+    private void writeReport(String key, YearMonth month, Long managerId) throws IOException {
+        int year = month.getYear();
+
+        List<List<Object[]>> answerCounts = List.of(
+            dashboardStatService.getMonthlyCounts(StatType.ANSWER, MonthlyStat.TOTAL_MANAGER_ID, year),
+            dashboardStatService.getMonthlyCounts(StatType.ANSWER, managerId, year)
+        );
+        List<List<Object[]>> collaborationCounts = List.of(
+            dashboardStatService.getMonthlyCounts(StatType.COLLABORATION, MonthlyStat.TOTAL_MANAGER_ID, year),
+            dashboardStatService.getMonthlyCounts(StatType.COLLABORATION, managerId, year)
+        );
+
+        Path target = reportPath(key);
+        Path temp = target.resolveSibling(key + ".pdf.tmp");
+
+        try {
+            dashboardReportRenderer.render(temp, month, managerId, answerCounts, collaborationCounts);
+            // 완성된 파일만 보이도록 임시 파일에 쓰고 옮긴다
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                log.warn("Dashboard report temp file cleanup failed. path={}", temp, e);
+            }
+        }
+    }
+
+    private ReportStatusResponseDTO toStatus(YearMonth month, Long managerId, ReportStatus status) {
+        return ReportStatusResponseDTO.builder()
+            .month(month)
+            .managerId(managerId)
+            .status(status)
+            .build();
+    }
+
+    private Long validateManager(String token) {
+        Long userId = userTokenResolver.resolveUserId(token);
+
+        if (!userClient.managerExists(userId)) {
+            throw new CommonException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        return userId;
+    }
+
+    private Path reportPath(String key) {
+        return Paths.get(storageDir, key + ".pdf");
+    }
+
+    private static String reportKey(YearMonth month, Long managerId) {
+        return "dashboard_" + month + "_" + managerId;
+    }
+}
@@ -0,0 +1,79 @@
+package com.pobluesky.voc.dashboard.service;
+
+import com.pobluesky.voc.dashboard.entity.MonthlyStat;
+import com.pobluesky.voc.dashboard.entity.StatType;
+import com.pobluesky.voc.dashboard.repository.MonthlyStatRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardStatService {
+
+    private final MonthlyStatRepository monthlyStatRepository;
+
+    /* [Start] 생성 시 증분 반영 (호출한 트랜잭션에 참여) */
+    @Transactional
+    public void recordAnswer(LocalDateTime createdDate, Long managerId) {
+        increment(StatType.ANSWER, createdDate, MonthlyStat.TOTAL_MANAGER_ID);
+
+        if (managerId != null) {
+            increment(StatType.ANSWER, createdDate, managerId);
+        }
+    }
+
+    @Transactional
+    public void recordCollaboration(LocalDateTime createdDate, Long colReqId, Long colResId) {
+        increment(StatType.COLLABORATION, createdDate, MonthlyStat.TOTAL_MANAGER_ID);
+
+        if (colReqId != null) {
+            increment(StatType.COLLABORATION, createdDate, colReqId);
+        }
+        // 요청/응답 담당자가 같으면 한 번만 센다
+        if (colResId != null && !Objects.equals(colReqId, colResId)) {
+            increment(StatType.COLLABORATION, createdDate, colResId);
+        }
+    }
+    /* [End] 생성 시 증분 반영 */
+
+    // 연도별 1~12월 건수 ([월, 건수], 집계 행이 없는 달은 0)
+    @Transactional(readOnly = true)
+    public List<Object[]> getMonthlyCounts(StatType statType, Long managerId, int year) {
+        long[] counts = new long[12];
+
+        monthlyStatRepository.findMonthlyStats(statType, managerId, year)
+            .forEach(stat -> counts[stat.getId().getStatMonth() - 1] = stat.getStatCount());
+
+        List<Object[]> results = new ArrayList<>(12);
+        for (int month = 1; month <= 12; month++) {
+            results.add(new Object[]{month, counts[month - 1]});
+        }
+
+        return results;
+    }
+
+    // 원본 테이블 기준으로 해당 유형의 집계를 다시 만든다
+    @Transactional
+    public void rebuild(StatType statType) {
+        switch (statType) {
+            case ANSWER -> monthlyStatRepository.rebuildAnswerStats();
+            case COLLABORATION -> monthlyStatRepository.rebuildCollaborationStats();
+        }
+    }
+
+    private void increment(StatType statType, LocalDateTime createdDate, Long managerId) {
+        LocalDateTime date = createdDate != null ? createdDate : LocalDateTime.now();
+
+        monthlyStatRepository.increment(
+            statType.name(),
+            managerId,
+            date.getYear(),
+            date.getMonthValue()
+        );
+    }
+}
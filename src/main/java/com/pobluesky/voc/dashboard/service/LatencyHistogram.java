@@ -0,0 +1,70 @@
+package com.pobluesky.voc.dashboard.service;
+
+import java.time.Duration;
+
+/**
+ * 고정 구간 소요 시간 히스토그램 (단위: 분)
+ * 구간 경계가 고정이라 인스턴스별 집계를 구간별 합으로 병합할 수 있다.
+ */
+public final class LatencyHistogram {
+
+    // 각 구간의 상한 (마지막 구간은 상한 없음)
+    private static final long[] UPPER_BOUNDS = {
+        5, 10, 15, 30, 60, 120, 240, 480, 720,
+        1_440, 2_880, 4_320, 7_200, 10_080, 20_160, 43_200
+    };
+
+    public static final int BUCKET_COUNT = UPPER_BOUNDS.length + 1;
+
+    private LatencyHistogram() {
+    }
+
+    public static int bucketIndex(Duration latency) {
+        long minutes = Math.max(0, latency.toMinutes());
+
+        for (int i = 0; i < UPPER_BOUNDS.length; i++) {
+            if (minutes < UPPER_BOUNDS[i]) {
+                return i;
+            }
+        }
+
+        return UPPER_BOUNDS.length;
+    }
+
+    // 분위수가 속한 구간의 상한, 건수가 없으면 null
+    // 마지막 구간(상한 없음)에 속하면 마지막 경계값을 하한으로 두고 openEnded 로 표시한다
+    public static Percentile percentile(long[] counts, double quantile) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+
+        if (total == 0) {
+            return null;
+        }
+
+        long rank = (long) Math.ceil(total * quantile);
+        long cumulative = 0;
+
+        for (int i = 0; i < UPPER_BOUNDS.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return new Percentile(UPPER_BOUNDS[i], false);
+            }
+        }
+
+        return new Percentile(UPPER_BOUNDS[UPPER_BOUNDS.length - 1], true);
+    }
+
+    /**
+     * 분위수 값 (단위: 분)
+     * openEnded 이면 minutes 는 상한이 아니라 하한이다 (minutes 분 이상).
+     */
+    public record Percentile(long minutes, boolean openEnded) {
+
+        @Override
+        public String toString() {
+            return openEnded ? ">=" + minutes : String.valueOf(minutes);
+        }
+    }
+}
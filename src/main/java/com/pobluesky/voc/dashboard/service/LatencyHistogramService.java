@@ -0,0 +1,237 @@
+package com.pobluesky.voc.dashboard.service;
+
+import com.pobluesky.voc.dashboard.dto.response.LatencySummaryResponseDTO;
+import com.pobluesky.voc.dashboard.entity.LatencyMetric;
+import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.global.entity.Department;
+import com.pobluesky.voc.global.error.CommonException;
+import com.pobluesky.voc.global.error.ErrorCode;
+import com.pobluesky.voc.global.security.UserTokenResolver;
+import com.pobluesky.voc.global.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 답변/협업 소요 시간 히스토그램 (전체, 담당자별, 부서별)
+ * 완료 시점에 인스턴스 메모리의 구간 카운터를 올리고, 주기적으로 증가분만 Redis Hash 에 HINCRBY 로 합친다.
+ * 조회는 Redis 에 병합된 구간 카운트로 분위수를 계산하므로 요청 시 테이블을 읽지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LatencyHistogramService {
+
+    private static final String KEY_PREFIX = "dashboard:latency:";
+
+    private static final String TOTAL_SCOPE = "total";
+
+    private static final String MANAGER_SCOPE_PREFIX = "manager:";
+
+    private static final String DEPARTMENT_SCOPE_PREFIX = "department:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final UserClient userClient;
+
+    private final UserTokenResolver userTokenResolver;
+
+    // 아직 Redis 에 반영되지 않은 증가분 (키 -> 구간별 건수)
+    private final Map<String, AtomicLongArray> pending = new ConcurrentHashMap<>();
+
+    /* [Start] 완료 시점 기록 */
+    public void recordAnswer(
+        LocalDateTime questionCreatedDate,
+        LocalDateTime answeredDate,
+        Long managerId,
+        Department department
+    ) {
+        record(LatencyMetric.ANSWER, questionCreatedDate, answeredDate, managerId, department);
+    }
+
+    public void recordCollaboration(
+        LocalDateTime requestedDate,
+        LocalDateTime completedDate,
+        Long managerId,
+        Department department
+    ) {
+        record(LatencyMetric.COLLABORATION, requestedDate, completedDate, managerId, department);
+    }
+    /* [End] 완료 시점 기록 */
+
+    // 전체 + 조건(담당자/부서)별 분위수
+    public Map<String, Map<LatencyMetric, LatencySummaryResponseDTO>> getSummaries(
+        String token,
+        Long managerId,
+        Department department
+    ) {
+        Long userId = userTokenResolver.resolveUserId(token);
+
+        if (!userClient.managerExists(userId)) {
+            throw new CommonException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        return getSummaries(managerId, department);
+    }
+
+    public Map<String, Map<LatencyMetric, LatencySummaryResponseDTO>> getSummaries(
+        Long managerId,
+        Department department
+    ) {
+        Map<String, String> scopes = new LinkedHashMap<>();
+        scopes.put("total", TOTAL_SCOPE);
+        if (managerId != null) {
+            scopes.put("manager", MANAGER_SCOPE_PREFIX + managerId);
+        }
+        if (department != null) {
+            scopes.put("department", DEPARTMENT_SCOPE_PREFIX + department.name());
+        }
+
+        List<String> keys = new ArrayList<>();
+        scopes.values().forEach(scope -> {
+            for (LatencyMetric metric : LatencyMetric.values()) {
+                keys.add(key(metric, scope));
+            }
+        });
+
+        List<Object> entries = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                keys.forEach(key -> operations.opsForHash().entries(key));
+                return null;
+            }
+        });
+
+        Map<String, Map<LatencyMetric, LatencySummaryResponseDTO>> results = new LinkedHashMap<>();
+        int index = 0;
+        for (String name : scopes.keySet()) {
+            Map<LatencyMetric, LatencySummaryResponseDTO> summaries = new LinkedHashMap<>();
+            for (LatencyMetric metric : LatencyMetric.values()) {
+                summaries.put(metric, LatencySummaryResponseDTO.from(toCounts(entries.get(index++))));
+            }
+            results.put(name, summaries);
+        }
+
+        return results;
+    }
+
+    // 인스턴스에 쌓인 증가분을 Redis 에 반영 (인스턴스마다 자기 증가분만 올리므로 락 불필요)
+    @Scheduled(
+        initialDelayString = "${dashboard.latency.flush.interval-ms}",
+        fixedDelayString = "${dashboard.latency.flush.interval-ms}"
+    )
+    @PreDestroy
+    public void flush() {
+        Map<String, long[]> deltas = new HashMap<>();
+
+        pending.forEach((key, buckets) -> {
+            long[] delta = new long[LatencyHistogram.BUCKET_COUNT];
+            boolean changed = false;
+
+            for (int i = 0; i < delta.length; i++) {
+                delta[i] = buckets.getAndSet(i, 0);
+                changed |= delta[i] != 0;
+            }
+
+            if (changed) {
+                deltas.put(key, delta);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    deltas.forEach((key, delta) -> {
+                        for (int i = 0; i < delta.length; i++) {
+                            if (delta[i] != 0) {
+                                operations.opsForHash().increment(key, String.valueOf(i), delta[i]);
+                            }
+                        }
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영되도록 되돌린다
+            deltas.forEach((key, delta) -> {
+                AtomicLongArray buckets = buckets(key);
+                for (int i = 0; i < delta.length; i++) {
+                    buckets.addAndGet(i, delta[i]);
+                }
+            });
+            log.warn("Latency histogram flush failed. keys={}", deltas.size(), e);
+        }
+    }
+
+    private void record(
+        LatencyMetric metric,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        Long managerId,
+        Department department
+    ) {
+        if (startedAt == null || finishedAt == null) {
+            return;
+        }
+
+        int bucket = LatencyHistogram.bucketIndex(Duration.between(startedAt, finishedAt));
+
+        List<String> keys = new ArrayList<>();
+        keys.add(key(metric, TOTAL_SCOPE));
+        if (managerId != null) {
+            keys.add(key(metric, MANAGER_SCOPE_PREFIX + managerId));
+        }
+        if (department != null) {
+            keys.add(key(metric, DEPARTMENT_SCOPE_PREFIX + department.name()));
+        }
+
+        Runnable increment = () -> keys.forEach(key -> buckets(key).incrementAndGet(bucket));
+
+        AfterCommit.run(increment);
+    }
+
+    private AtomicLongArray buckets(String key) {
+        return pending.computeIfAbsent(key, k -> new AtomicLongArray(LatencyHistogram.BUCKET_COUNT));
+    }
+
+    private long[] toCounts(Object entries) {
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+
+        if (entries instanceof Map<?, ?> stored) {
+            stored.forEach((field, value) -> {
+                int index = Integer.parseInt(String.valueOf(field));
+                if (index >= 0 && index < counts.length) {
+                    counts[index] = Long.parseLong(String.valueOf(value));
+                }
+            });
+        }
+
+        return counts;
+    }
+
+    private static String key(LatencyMetric metric, String scope) {
+        return KEY_PREFIX + metric.name().toLowerCase() + ":" + scope;
+    }
+}
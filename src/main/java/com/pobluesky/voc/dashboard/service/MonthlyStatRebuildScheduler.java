@@ -0,0 +1,33 @@
+package com.pobluesky.voc.dashboard.service;
+
+import com.pobluesky.voc.dashboard.entity.StatType;
+import com.pobluesky.voc.global.redisson.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * monthly_stat 재집계
+ * 증분 반영이 누락/중복된 경우(수동 데이터 보정, 배포 중 실패 등)를 원본 기준으로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyStatRebuildScheduler {
+
+    private final DashboardStatService dashboardStatService;
+
+    @Scheduled(
+        initialDelayString = "${dashboard.monthly-stat.rebuild.initial-delay-ms}",
+        fixedDelayString = "${dashboard.monthly-stat.rebuild.interval-ms}"
+    )
+    @DistributedLock(key = "'monthly-stat-rebuild'", leaseTime = 300L)
+    public void rebuildMonthlyStats() {
+        for (StatType statType : StatType.values()) {
+            dashboardStatService.rebuild(statType);
+        }
+
+        log.info("Monthly stat rebuild finished.");
+    }
+}
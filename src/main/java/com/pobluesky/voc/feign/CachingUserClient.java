@@ -0,0 +1,318 @@
+package com.pobluesky.voc.feign;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pobluesky.voc.global.util.ResponseFactory;
+import com.pobluesky.voc.global.util.model.JsonResult;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * UserClient 캐싱 데코레이터
+ * L1: 인스턴스 로컬 캐시 (TTL + 최대 크기), L2: Redis, 미스인 경우에만 user 서비스 호출
+ * 변경 감지 시 Redis 항목을 지우고 pub/sub으로 모든 인스턴스의 L1을 비운다.
+ */
+@Slf4j
+public class CachingUserClient implements UserClient {
+
+    private static final String MANAGER_KEY_PREFIX = "user:manager:";
+
+    private static final String CUSTOMER_KEY_PREFIX = "user:customer:";
+
+    // 메시지 형식: "user:manager:{id}" 또는 "user:customer:{id}" (Redis 키와 같음)
+    private static final String EVICT_TOPIC = "user:cache:evict";
+
+    private final UserClient delegate;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final Duration redisTtl;
+
+    private final Cache<Long, Manager> managerCache;
+
+    private final Cache<Long, Customer> customerCache;
+
+    private final RTopic evictTopic;
+
+    public CachingUserClient(
+        UserClient delegate,
+        RedisTemplate<String, Object> redisTemplate,
+        RedissonClient redissonClient,
+        Duration localTtl,
+        long localMaxSize,
+        Duration redisTtl
+    ) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = redisTtl;
+        this.managerCache = Caffeine.newBuilder()
+            .expireAfterWrite(localTtl)
+            .maximumSize(localMaxSize)
+            .build();
+        this.customerCache = Caffeine.newBuilder()
+            .expireAfterWrite(localTtl)
+            .maximumSize(localMaxSize)
+            .build();
+        this.evictTopic = redissonClient.getTopic(EVICT_TOPIC, StringCodec.INSTANCE);
+        this.evictTopic.addListener(String.class, (channel, key) -> evictLocal(key));
+    }
+
+    @Override
+    public JsonResult<Customer> getCustomerByIdWithoutToken(Long userId) {
+        Customer customer = getOne(
+            userId,
+            customerCache,
+            CUSTOMER_KEY_PREFIX,
+            Customer.class,
+            id -> delegate.getCustomerByIdWithoutToken(id).getData()
+        );
+
+        return ResponseFactory.getSuccessJsonResult(customer);
+    }
+
+    @Override
+    public JsonResult<Manager> getManagerByIdWithoutToken(Long userId) {
+        Manager manager = getOne(
+            userId,
+            managerCache,
+            MANAGER_KEY_PREFIX,
+            Manager.class,
+            id -> delegate.getManagerByIdWithoutToken(id).getData()
+        );
+
+        return ResponseFactory.getSuccessJsonResult(manager);
+    }
+
+    @Override
+    public JsonResult<Map<Long, Customer>> getCustomersByIdsWithoutToken(Collection<Long> userIds) {
+        Map<Long, Customer> customers = getMany(
+            userIds,
+            customerCache,
+            CUSTOMER_KEY_PREFIX,
+            Customer.class,
+            ids -> delegate.getCustomersByIdsWithoutToken(ids).getData()
+        );
+
+        return ResponseFactory.getSuccessJsonResult(customers);
+    }
+
+    @Override
+    public JsonResult<Map<Long, Manager>> getManagersByIdsWithoutToken(Collection<Long> userIds) {
+        Map<Long, Manager> managers = getMany(
+            userIds,
+            managerCache,
+            MANAGER_KEY_PREFIX,
+            Manager.class,
+            ids -> delegate.getManagersByIdsWithoutToken(ids).getData()
+        );
+
+        return ResponseFactory.getSuccessJsonResult(managers);
+    }
+
+    @Override
+    public JsonResult<List<Manager>> getManagersUpdatedSince(LocalDateTime since) {
+        return delegate.getManagersUpdatedSince(since);
+    }
+
+    @Override
+    public JsonResult<List<Customer>> getCustomersUpdatedSince(LocalDateTime since) {
+        return delegate.getCustomersUpdatedSince(since);
+    }
+
+    @Override
+    public Long parseToken(String token) {
+        return delegate.parseToken(token);
+    }
+
+    @Override
+    public Boolean managerExists(Long userId) {
+        return delegate.managerExists(userId);
+    }
+
+    @Override
+    public Boolean customerExists(Long userId) {
+        return delegate.customerExists(userId);
+    }
+
+    /* [Start] 캐시 무효화 */
+    public void evictManager(Long userId) {
+        evict(MANAGER_KEY_PREFIX + userId);
+    }
+
+    public void evictCustomer(Long userId) {
+        evict(CUSTOMER_KEY_PREFIX + userId);
+    }
+
+    private void evict(String key) {
+        deleteFromRedis(key);
+        evictLocal(key);
+
+        try {
+            evictTopic.publish(key);
+        } catch (Exception e) {
+            // 다른 인스턴스의 L1은 TTL로 만료된다
+            log.warn("User cache evict publish failed. key={}", key, e);
+        }
+    }
+
+    private void evictLocal(String key) {
+        if (key.startsWith(MANAGER_KEY_PREFIX)) {
+            managerCache.invalidate(Long.valueOf(key.substring(MANAGER_KEY_PREFIX.length())));
+        } else if (key.startsWith(CUSTOMER_KEY_PREFIX)) {
+            customerCache.invalidate(Long.valueOf(key.substring(CUSTOMER_KEY_PREFIX.length())));
+        }
+    }
+    /* [End] 캐시 무효화 */
+
+    private <T> T getOne(
+        Long userId,
+        Cache<Long, T> localCache,
+        String keyPrefix,
+        Class<T> type,
+        Function<Long, T> loader
+    ) {
+        if (userId == null) {
+            return loader.apply(null);
+        }
+
+        T cached = localCache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        T stored = readFromRedis(keyPrefix + userId, type);
+        if (stored != null) {
+            localCache.put(userId, stored);
+            return stored;
+        }
+
+        T loaded = loader.apply(userId);
+        if (loaded != null) {
+            localCache.put(userId, loaded);
+            writeToRedis(Map.<String, Object>of(keyPrefix + userId, loaded));
+        }
+
+        return loaded;
+    }
+
+    private <T> Map<Long, T> getMany(
+        Collection<Long> userIds,
+        Cache<Long, T> localCache,
+        String keyPrefix,
+        Class<T> type,
+        Function<Collection<Long>, Map<Long, T>> loader
+    ) {
+        Map<Long, T> result = new HashMap<>();
+
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        ids.remove(null);
+
+        // 1. L1 조회
+        List<Long> localMisses = new ArrayList<>();
+        for (Long id : ids) {
+            T cached = localCache.getIfPresent(id);
+            if (cached != null) {
+                result.put(id, cached);
+            } else {
+                localMisses.add(id);
+            }
+        }
+
+        if (localMisses.isEmpty()) {
+            return result;
+        }
+
+        // 2. L2 조회 (MGET 한 번)
+        List<Long> remoteMisses = new ArrayList<>();
+        List<Object> stored = multiReadFromRedis(
+            localMisses.stream().map(id -> keyPrefix + id).toList()
+        );
+        for (int i = 0; i < localMisses.size(); i++) {
+            Long id = localMisses.get(i);
+            Object value = stored != null ? stored.get(i) : null;
+            if (type.isInstance(value)) {
+                T profile = type.cast(value);
+                localCache.put(id, profile);
+                result.put(id, profile);
+            } else {
+                remoteMisses.add(id);
+            }
+        }
+
+        if (remoteMisses.isEmpty()) {
+            return result;
+        }
+
+        // 3. 남은 ID만 user 서비스에 일괄 조회
+        Map<Long, T> loaded = loader.apply(remoteMisses);
+        if (loaded == null || loaded.isEmpty()) {
+            return result;
+        }
+
+        Map<String, Object> toStore = new HashMap<>();
+        loaded.forEach((id, profile) -> {
+            if (id != null && profile != null) {
+                localCache.put(id, profile);
+                result.put(id, profile);
+                toStore.put(keyPrefix + id, profile);
+            }
+        });
+        writeToRedis(toStore);
+
+        return result;
+    }
+
+    private <T> T readFromRedis(String key, Class<T> type) {
+        try {
+            Object value = redisTemplate.opsForValue().get(key);
+            return type.isInstance(value) ? type.cast(value) : null;
+        } catch (Exception e) {
+            log.warn("User cache read failed. key={}", key, e);
+            return null;
+        }
+    }
+
+    private List<Object> multiReadFromRedis(List<String> keys) {
+        try {
+            return redisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            log.warn("User cache read failed. keys={}", keys.size(), e);
+            return null;
+        }
+    }
+
+    private void writeToRedis(Map<String, Object> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        try {
+            values.forEach((key, value) ->
+                redisTemplate.opsForValue().set(key, Objects.requireNonNull(value), redisTtl));
+        } catch (Exception e) {
+            log.warn("User cache write failed. keys={}", values.size(), e);
+        }
+    }
+
+    private void deleteFromRedis(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("User cache evict failed. key={}", key, e);
+        }
+    }
+}
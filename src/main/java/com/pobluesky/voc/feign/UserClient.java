@@ -1,12 +1,17 @@
 package com.pobluesky.voc.feign;
 
 import com.pobluesky.voc.global.util.model.JsonResult;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "user")
+@FeignClient(name = "user", primary = false, qualifiers = "userFeignClient")
 public interface UserClient {
 
     @GetMapping("/api/customers/without-token/{userId}")
@@ -15,6 +20,27 @@ public interface UserClient {
     @GetMapping("/api/managers/without-token/{userId}")
     JsonResult<Manager> getManagerByIdWithoutToken(@PathVariable("userId") Long userId);
 
+    // 목록 조회 시 사용자 정보 일괄 조회 (userId -> 사용자 정보)
+    @GetMapping("/api/customers/without-token")
+    JsonResult<Map<Long, Customer>> getCustomersByIdsWithoutToken(@RequestParam("userIds") Collection<Long> userIds);
+
+    @GetMapping("/api/managers/without-token")
+    JsonResult<Map<Long, Manager>> getManagersByIdsWithoutToken(@RequestParam("userIds") Collection<Long> userIds);
+
+    // 담당자 디렉터리 증분 동기화 (since 가 없으면 전체)
+    @GetMapping("/api/managers/without-token/updated")
+    JsonResult<List<Manager>> getManagersUpdatedSince(
+        @RequestParam(value = "since", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since
+    );
+
+    // 질문 고객사명 증분 동기화 (since 가 없으면 전체)
+    @GetMapping("/api/customers/without-token/updated")
+    JsonResult<List<Customer>> getCustomersUpdatedSince(
+        @RequestParam(value = "since", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since
+    );
+
     @GetMapping("/api/users/token")
     Long parseToken(@RequestParam("token") String token);
 
@@ -0,0 +1,48 @@
+package com.pobluesky.voc.feign;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록/내보내기에서 고객사명, 담당자명을 붙이기 위한 일괄 조회
+ * 조회에 실패하면 경고 로그를 남기고 빈 Map 을 반환해 이름 없이 응답한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileReader {
+
+    private final UserClient userClient;
+
+    public Map<Long, Customer> findCustomers(Collection<Long> customerIds) {
+        if (customerIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            Map<Long, Customer> customers = userClient.getCustomersByIdsWithoutToken(customerIds).getData();
+            return customers != null ? customers : Collections.emptyMap();
+        } catch (Exception e) {
+            log.warn("Customer lookup failed. ids={}", customerIds.size(), e);
+            return Collections.emptyMap();
+        }
+    }
+
+    public Map<Long, Manager> findManagers(Collection<Long> managerIds) {
+        if (managerIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            Map<Long, Manager> managers = userClient.getManagersByIdsWithoutToken(managerIds).getData();
+            return managers != null ? managers : Collections.emptyMap();
+        } catch (Exception e) {
+            log.warn("Manager lookup failed. ids={}", managerIds.size(), e);
+            return Collections.emptyMap();
+        }
+    }
+}
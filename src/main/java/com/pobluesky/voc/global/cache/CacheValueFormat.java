@@ -0,0 +1,55 @@
+package com.pobluesky.voc.global.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 캐시/RedisTemplate 값 저장 형식
+ * SMILE: 바이너리 JSON (속성명, 반복 문자열/타입명을 back-reference로 저장해 크기와 파싱 비용이 작다)
+ * JSON: 사람이 읽을 수 있는 JSON (redis-cli로 값을 확인해야 할 때)
+ */
+public enum CacheValueFormat {
+
+    JSON {
+        @Override
+        JsonFactory jsonFactory() {
+            return new JsonFactory();
+        }
+
+        // JSON 은 값의 종류에 따라 첫 바이트가 달라지므로 (객체, 배열, 문자열, 숫자 등) Smile 헤더가 아닌 값은 모두 JSON 으로 본다
+        @Override
+        boolean accepts(byte[] bytes) {
+            return !hasSmileHeader(bytes);
+        }
+    },
+
+    SMILE {
+        @Override
+        JsonFactory jsonFactory() {
+            return SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        }
+
+        @Override
+        boolean accepts(byte[] bytes) {
+            return hasSmileHeader(bytes);
+        }
+    };
+
+    abstract JsonFactory jsonFactory();
+
+    // Smile 값은 항상 ":)\n" 헤더로 시작한다 (SmileGenerator.Feature.WRITE_HEADER 기본값)
+    private static boolean hasSmileHeader(byte[] bytes) {
+        return bytes.length >= 3 && bytes[0] == ':' && bytes[1] == ')' && bytes[2] == '\n';
+    }
+
+    // 다른 형식으로 저장된 값 (형식 전환 직후의 기존 항목) 구분용
+    abstract boolean accepts(byte[] bytes);
+
+    public RedisSerializer<Object> serializer() {
+        return new JacksonCacheSerializer(this);
+    }
+}
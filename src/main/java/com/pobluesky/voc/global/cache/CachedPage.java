@@ -0,0 +1,40 @@
+package com.pobluesky.voc.global.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Page 캐시 저장 형식
+ * PageImpl은 역직렬화 생성자가 없어 내용/페이지 정보만 저장하고 읽을 때 다시 만든다. (정렬 정보는 저장하지 않음)
+ */
+public record CachedPage(
+
+    List<Object> content,
+
+    int page,
+
+    int size,
+
+    long totalElements
+) {
+
+    public static CachedPage from(Page<?> page) {
+        return new CachedPage(
+            new ArrayList<>(page.getContent()),
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements()
+        );
+    }
+
+    public Page<Object> toPage() {
+        if (size < 1) {
+            return new PageImpl<>(content);
+        }
+
+        return new PageImpl<>(content, PageRequest.of(page, size), totalElements);
+    }
+}
@@ -0,0 +1,43 @@
+package com.pobluesky.voc.global.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.util.StringUtils;
+
+/**
+ * 캐시 이름별 TTL/키 접두사를 적용하는 RedisCacheManager
+ * 런타임에 생성되는 고객사별 캐시에도 기본 캐시 이름의 설정을 적용한다.
+ */
+public class ConfigurableRedisCacheManager extends RedisCacheManager {
+
+    private final RedisCacheProperties properties;
+
+    public ConfigurableRedisCacheManager(
+        RedisCacheWriter cacheWriter,
+        RedisCacheConfiguration defaultConfig,
+        RedisCacheProperties properties
+    ) {
+        super(cacheWriter, defaultConfig);
+        this.properties = properties;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfig) {
+        RedisCacheProperties.CacheSpec spec = properties.spec(name);
+        if (spec == null) {
+            return super.createRedisCache(name, cacheConfig);
+        }
+
+        RedisCacheConfiguration config = cacheConfig;
+        if (spec.ttl() != null) {
+            config = config.entryTtl(spec.ttl());
+        }
+        if (StringUtils.hasText(spec.keyPrefix())) {
+            config = config.prefixCacheNameWith(spec.keyPrefix());
+        }
+
+        return super.createRedisCache(name, config);
+    }
+}
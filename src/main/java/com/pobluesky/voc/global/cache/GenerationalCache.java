@@ -0,0 +1,134 @@
+package com.pobluesky.voc.global.cache;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 세대(generation) 번호 기반 캐시 데코레이터
+ * 모든 키 앞에 캐시별 세대 번호를 붙이고, 전체 무효화는 세대 번호 INCR 한 번으로 처리한다.
+ * 이전 세대 항목은 더 이상 조회되지 않으며 TTL로 만료된다.
+ */
+public class GenerationalCache implements Cache {
+
+    private static final String GENERATION_KEY_PREFIX = "cache:generation:";
+
+    private final Cache delegate;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String generationKey;
+
+    // 로딩 중인 키 (같은 키의 동시 미스는 먼저 시작한 로딩 결과를 공유)
+    private final Map<String, CompletableFuture<Object>> loadings = new ConcurrentHashMap<>();
+
+    public GenerationalCache(Cache delegate, StringRedisTemplate stringRedisTemplate) {
+        this.delegate = delegate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.generationKey = GENERATION_KEY_PREFIX + delegate.getName();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(versionedKey(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(versionedKey(key), type);
+    }
+
+    // @Cacheable(sync = true) 경로
+    // RedisCache.get(key, loader)는 캐시 단위로 synchronized 되어 다른 키의 로딩까지 직렬화하므로,
+    // 같은 키의 동시 미스만 하나의 로딩을 기다리도록 직접 처리한다.
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 세대 번호를 한 번만 읽어 조회와 저장에 같은 키를 사용
+        String versionedKey = versionedKey(key);
+
+        ValueWrapper cached = delegate.get(versionedKey);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loadings.putIfAbsent(versionedKey, loading);
+        if (inFlight != null) {
+            return (T) await(inFlight, key, valueLoader);
+        }
+
+        try {
+            T value = valueLoader.call();
+            delegate.put(versionedKey, value);
+            loading.complete(value);
+
+            return value;
+        } catch (Exception e) {
+            loading.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loadings.remove(versionedKey, loading);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(versionedKey(key), value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(versionedKey(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(versionedKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(versionedKey(key));
+    }
+
+    @Override
+    public void clear() {
+        stringRedisTemplate.opsForValue().increment(generationKey);
+    }
+
+    @Override
+    public boolean invalidate() {
+        clear();
+
+        return true;
+    }
+
+    private Object await(CompletableFuture<Object> inFlight, Object key, Callable<?> valueLoader) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private String versionedKey(Object key) {
+        String generation = stringRedisTemplate.opsForValue().get(generationKey);
+
+        return (generation != null ? generation : "0") + ":" + key;
+    }
+}
@@ -0,0 +1,45 @@
+package com.pobluesky.voc.global.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 모든 캐시를 GenerationalCache로 감싸는 CacheManager
+ */
+public class GenerationalCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public GenerationalCacheManager(CacheManager delegate, StringRedisTemplate stringRedisTemplate) {
+        this.delegate = delegate;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+
+        return caches.computeIfAbsent(name, k -> new GenerationalCache(target, stringRedisTemplate));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,75 @@
+package com.pobluesky.voc.global.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Jackson 기반 캐시 값 직렬화 (형식은 CacheValueFormat)
+ * Object 위치의 값에만 타입 정보를 기록하고, Page는 CachedPage로 바꿔 저장한다.
+ * 저장된 값이 현재 형식이 아니면 캐시 미스로 처리한다.
+ */
+public class JacksonCacheSerializer implements RedisSerializer<Object> {
+
+    // 역직렬화 허용 타입 (임의 클래스 생성 방지)
+    private static final PolymorphicTypeValidator TYPE_VALIDATOR = BasicPolymorphicTypeValidator.builder()
+        .allowIfSubType("com.pobluesky.voc.")
+        .allowIfSubType("java.util.")
+        .allowIfSubType("java.time.")
+        .allowIfSubType("java.lang.")
+        .build();
+
+    private final CacheValueFormat format;
+
+    private final ObjectWriter writer;
+
+    private final ObjectReader reader;
+
+    public JacksonCacheSerializer(CacheValueFormat format) {
+        ObjectMapper objectMapper = new ObjectMapper(format.jsonFactory())
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .activateDefaultTyping(TYPE_VALIDATOR, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+
+        this.format = format;
+        this.writer = objectMapper.writerFor(Object.class);
+        this.reader = objectMapper.readerFor(Object.class);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        try {
+            return writer.writeValueAsBytes(value instanceof Page<?> page ? CachedPage.from(page) : value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0 || !format.accepts(bytes)) {
+            return null;
+        }
+
+        try {
+            Object value = reader.readValue(bytes);
+
+            return value instanceof CachedPage cachedPage ? cachedPage.toPage() : value;
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.pobluesky.voc.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 조회 count 결과 단기 캐시
+ * 같은 필터 조건으로 페이지만 넘기는 경우 COUNT(*)를 매번 다시 실행하지 않도록 한다.
+ */
+@Component
+public class QueryCountCache {
+
+    private final Cache<CountKey, Long> cache;
+
+    public QueryCountCache(
+        @Value("${query.count-cache.ttl}") Duration ttl,
+        @Value("${query.count-cache.max-size}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .build();
+    }
+
+    // queryName + 필터 값 목록을 키로 count 결과를 캐시 (null 필터 허용)
+    public long getCount(String queryName, Supplier<Long> counter, Object... filters) {
+        CountKey key = new CountKey(queryName, Arrays.asList(filters));
+
+        Long count = cache.get(key, k -> {
+            Long counted = counter.get();
+            return counted != null ? counted : 0L;
+        });
+
+        return count != null ? count : 0L;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private record CountKey(String queryName, List<Object> filters) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.pobluesky.voc.global.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @Cacheable Redis 캐시 설정
+ * caches의 키는 기본 캐시 이름이며, 고객사별 캐시("이름:customerId")도 같은 설정을 따른다.
+ */
+@ConfigurationProperties(prefix = "cache.redis")
+public record RedisCacheProperties(
+
+    Duration defaultTtl,
+
+    String keyPrefix,
+
+    CacheValueFormat valueFormat,
+
+    Map<String, CacheSpec> caches
+) {
+
+    public RedisCacheProperties {
+        valueFormat = valueFormat != null ? valueFormat : CacheValueFormat.SMILE;
+        caches = caches != null ? caches : Map.of();
+    }
+
+    public CacheSpec spec(String cacheName) {
+        return caches.get(TenantCacheResolver.baseCacheName(cacheName));
+    }
+
+    public record CacheSpec(
+
+        Duration ttl,
+
+        String keyPrefix
+    ) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.pobluesky.voc.global.cache;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.AbstractCacheResolver;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고객사별 캐시 이름 분리
+ * customerId 파라미터가 있는 메서드는 "캐시이름:customerId" 캐시를 사용한다.
+ * 고객사 단위로 캐시를 비울 수 있어 다른 고객사/담당자 캐시는 유지된다.
+ */
+@Component
+public class TenantCacheResolver extends AbstractCacheResolver {
+
+    private static final String TENANT_PARAMETER = "customerId";
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    public TenantCacheResolver(CacheManager cacheManager) {
+        super(cacheManager);
+    }
+
+    public static String tenantCacheName(String cacheName, Long customerId) {
+        return cacheName + ":" + customerId;
+    }
+
+    // "이름:customerId" -> "이름"
+    public static String baseCacheName(String cacheName) {
+        int separator = cacheName.indexOf(':');
+
+        return separator < 0 ? cacheName : cacheName.substring(0, separator);
+    }
+
+    @Override
+    protected Collection<String> getCacheNames(CacheOperationInvocationContext<?> context) {
+        Set<String> cacheNames = context.getOperation().getCacheNames();
+        Object customerId = findTenant(context.getMethod(), context.getArgs());
+
+        if (customerId == null) {
+            return cacheNames;
+        }
+
+        return cacheNames.stream()
+            .map(name -> name + ":" + customerId)
+            .collect(Collectors.toList());
+    }
+
+    private Object findTenant(Method method, Object[] args) {
+        String[] names = parameterNameDiscoverer.getParameterNames(method);
+        if (names == null) {
+            return null;
+        }
+
+        for (int i = 0; i < names.length; i++) {
+            if (TENANT_PARAMETER.equals(names[i])) {
+                return args[i];
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,123 @@
+package com.pobluesky.voc.global.cache;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * 2단 캐시 (L1: 인스턴스 로컬, L2: Redis)
+ * L1에 있으면 Redis 왕복과 역직렬화 없이 응답하고, 무효화는 모든 인스턴스에 전파한다.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache delegate;
+
+    private final TwoTierCacheManager cacheManager;
+
+    public TwoTierCache(Cache delegate, TwoTierCacheManager cacheManager) {
+        this.delegate = delegate;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper local = cacheManager.getLocal(getName(), key);
+        if (local != null) {
+            return local;
+        }
+
+        long epoch = cacheManager.localEpoch(getName());
+        ValueWrapper stored = delegate.get(key);
+        if (stored != null) {
+            cacheManager.putLocal(getName(), key, stored, epoch);
+        }
+
+        return stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper local = cacheManager.getLocal(getName(), key);
+        if (local != null) {
+            return (T) local.get();
+        }
+
+        long epoch = cacheManager.localEpoch(getName());
+        T value = delegate.get(key, valueLoader);
+        cacheManager.putLocal(getName(), key, new SimpleValueWrapper(value), epoch);
+
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long epoch = cacheManager.localEpoch(getName());
+        delegate.put(key, value);
+        cacheManager.putLocal(getName(), key, new SimpleValueWrapper(value), epoch);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        long epoch = cacheManager.localEpoch(getName());
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        cacheManager.putLocal(getName(), key, existing != null ? existing : new SimpleValueWrapper(value), epoch);
+
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        cacheManager.publishEvict(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        cacheManager.publishEvict(getName(), key);
+
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        cacheManager.publishClear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        cacheManager.publishClear(getName());
+
+        return invalidated;
+    }
+}
@@ -0,0 +1,152 @@
+package com.pobluesky.voc.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Redis 캐시 앞에 인스턴스 로컬 L1을 두는 CacheManager
+ * L1은 모든 캐시가 공유하는 크기 제한 Caffeine 캐시이며, 무효화는 Redis pub/sub으로 전 인스턴스에 전파한다.
+ * 메시지를 놓친 인스턴스도 L1 TTL이 지나면 L2 값을 다시 읽는다.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, DisposableBean {
+
+    private static final String INVALIDATION_TOPIC = "cache:invalidation";
+
+    // 메시지 형식: "캐시이름" (전체) 또는 "캐시이름\n키" (단건)
+    private static final char KEY_SEPARATOR = '\n';
+
+    private final CacheManager delegate;
+
+    private final MeterRegistry meterRegistry;
+
+    private final com.github.benmanes.caffeine.cache.Cache<LocalKey, ValueWrapper> localCache;
+
+    private final RTopic invalidationTopic;
+
+    private final int listenerId;
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    // 캐시별 L1 무효화 횟수 (조회 중 무효화된 값이 L1에 다시 들어가지 않도록 비교)
+    private final Map<String, AtomicLong> localEpochs = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(
+        CacheManager delegate,
+        RedissonClient redissonClient,
+        MeterRegistry meterRegistry,
+        Duration localTtl,
+        long localMaxSize
+    ) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.localCache = Caffeine.newBuilder()
+            .expireAfterWrite(localTtl)
+            .maximumSize(localMaxSize)
+            .build();
+        this.invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        this.listenerId = invalidationTopic.addListener(String.class, (channel, message) -> onInvalidation(message));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+
+        return caches.computeIfAbsent(name, k -> new MeteredCache(new TwoTierCache(target, this), meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public void destroy() {
+        invalidationTopic.removeListener(listenerId);
+    }
+
+    /* [Start] L1 */
+    ValueWrapper getLocal(String cacheName, Object key) {
+        return localCache.getIfPresent(new LocalKey(cacheName, String.valueOf(key)));
+    }
+
+    long localEpoch(String cacheName) {
+        return epoch(cacheName).get();
+    }
+
+    // L2 조회를 시작한 뒤 무효화가 있었다면 L1에 저장하지 않는다
+    void putLocal(String cacheName, Object key, ValueWrapper value, long epoch) {
+        if (epoch(cacheName).get() == epoch) {
+            localCache.put(new LocalKey(cacheName, String.valueOf(key)), value);
+        }
+    }
+
+    void publishEvict(String cacheName, Object key) {
+        evictLocal(cacheName, String.valueOf(key));
+        publish(cacheName + KEY_SEPARATOR + key);
+    }
+
+    void publishClear(String cacheName) {
+        clearLocal(cacheName);
+        publish(cacheName);
+    }
+    /* [End] L1 */
+
+    private void publish(String message) {
+        try {
+            invalidationTopic.publish(message);
+        } catch (Exception e) {
+            // 다른 인스턴스의 L1은 TTL로 만료된다
+            log.warn("Cache invalidation publish failed. message={}", message, e);
+        }
+    }
+
+    // 자신이 보낸 메시지도 수신되지만 로컬 무효화는 멱등이다
+    private void onInvalidation(String message) {
+        int separator = message.indexOf(KEY_SEPARATOR);
+
+        if (separator < 0) {
+            clearLocal(message);
+        } else {
+            evictLocal(message.substring(0, separator), message.substring(separator + 1));
+        }
+    }
+
+    private void evictLocal(String cacheName, String key) {
+        epoch(cacheName).incrementAndGet();
+        localCache.invalidate(new LocalKey(cacheName, key));
+    }
+
+    private void clearLocal(String cacheName) {
+        epoch(cacheName).incrementAndGet();
+        localCache.asMap().keySet().removeIf(key -> key.cacheName().equals(cacheName));
+    }
+
+    private AtomicLong epoch(String cacheName) {
+        return localEpochs.computeIfAbsent(cacheName, k -> new AtomicLong());
+    }
+
+    private record LocalKey(String cacheName, String key) {
+    }
+}
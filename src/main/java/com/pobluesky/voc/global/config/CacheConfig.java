@@ -1,20 +1,32 @@
 package com.pobluesky.voc.global.config;
 
+import com.pobluesky.voc.global.cache.ConfigurableRedisCacheManager;
+import com.pobluesky.voc.global.cache.GenerationalCacheManager;
+import com.pobluesky.voc.global.cache.RedisCacheProperties;
+import com.pobluesky.voc.global.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(RedisCacheProperties.class)
 public class CacheConfig {
 
     @Value("${spring.data.redis.host}")
@@ -23,6 +35,12 @@ public class CacheConfig {
     @Value("${spring.data.redis.port}")
     private int redisPort;
 
+    @Value("${cache.local.ttl}")
+    private Duration localTtl;
+
+    @Value("${cache.local.max-size}")
+    private long localMaxSize;
+
     private final RedissonClient redissonClient;
 
     public CacheConfig(RedissonClient redissonClient) {
@@ -35,18 +53,45 @@ public class CacheConfig {
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
+    public RedisTemplate<String, Object> redisTemplate(RedisCacheProperties redisCacheProperties) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
 
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setValueSerializer(redisCacheProperties.valueFormat().serializer());
         return redisTemplate;
     }
 
+    // L1(로컬) + L2(Redis), 캐시 이름별 TTL/키 접두사 적용, 무효화는 세대 번호 INCR + pub/sub 전파
+    // 호출 통계는 Micrometer로 수집
     @Bean
-    public CacheManager cacheManager() {
-        return RedisCacheManager.builder(redisConnectionFactory())
-            .build();
+    public CacheManager cacheManager(
+        RedisCacheProperties redisCacheProperties,
+        StringRedisTemplate stringRedisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+            redisConnectionFactory(),
+            BatchStrategies.scan(1000)
+        );
+
+        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(redisCacheProperties.defaultTtl())
+            .serializeValuesWith(SerializationPair.fromSerializer(redisCacheProperties.valueFormat().serializer()));
+        if (StringUtils.hasText(redisCacheProperties.keyPrefix())) {
+            defaultConfig = defaultConfig.prefixCacheNameWith(redisCacheProperties.keyPrefix());
+        }
+
+        ConfigurableRedisCacheManager redisCacheManager =
+            new ConfigurableRedisCacheManager(cacheWriter, defaultConfig, redisCacheProperties);
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoTierCacheManager(
+            new GenerationalCacheManager(redisCacheManager, stringRedisTemplate),
+            redissonClient,
+            meterRegistry,
+            localTtl,
+            localMaxSize
+        );
     }
 }
@@ -0,0 +1,43 @@
+package com.pobluesky.voc.global.config;
+
+import com.pobluesky.voc.feign.CachingUserClient;
+import com.pobluesky.voc.feign.UserClient;
+import java.time.Duration;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@Configuration
+public class UserClientCacheConfig {
+
+    @Value("${user.cache.local.ttl}")
+    private Duration localTtl;
+
+    @Value("${user.cache.local.max-size}")
+    private long localMaxSize;
+
+    @Value("${user.cache.redis.ttl}")
+    private Duration redisTtl;
+
+    // 서비스/레포지토리에서 주입받는 UserClient는 캐싱 데코레이터
+    @Bean
+    @Primary
+    public CachingUserClient cachingUserClient(
+        @Qualifier("userFeignClient") UserClient userFeignClient,
+        RedisTemplate<String, Object> redisTemplate,
+        RedissonClient redissonClient
+    ) {
+        return new CachingUserClient(
+            userFeignClient,
+            redisTemplate,
+            redissonClient,
+            localTtl,
+            localMaxSize,
+            redisTtl
+        );
+    }
+}
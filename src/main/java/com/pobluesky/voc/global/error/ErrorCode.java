@@ -14,6 +14,9 @@ public enum ErrorCode {
     EXTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "G0003", "외부 서버 오류입니다."),
     INVALID_TOKEN(HttpStatus.INTERNAL_SERVER_ERROR, "G0004","권한 정보가 없는 토큰입니다."),
     JSON_PROCESSING_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "G0005","JSON 처리 중 오류가 발생했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "G0006", "올바르지 않은 커서입니다."),
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "G0007", "지원하지 않는 내보내기 형식입니다."),
+    UNSUPPORTED_SORT(HttpStatus.BAD_REQUEST, "G0008", "지원하지 않는 정렬 기준입니다."),
 
     // User
     USER_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR, "U0001", "존재하지 않는 사용자입니다."),
@@ -79,6 +82,13 @@ public enum ErrorCode {
     COLLABORATION_INFO_MISMATCH(HttpStatus.INTERNAL_SERVER_ERROR, "C0006", "일치하지 않은 협업 정보입니다."),
     RESMANAGER_NOT_MACHED(HttpStatus.INTERNAL_SERVER_ERROR, "C0007", "해당 협업의 응답 담당자가 아닙니다."),
     REQMANAGER_NOT_MACHED(HttpStatus.INTERNAL_SERVER_ERROR, "C0008", "해당 협업의 요청 담당자가 아닙니다."),
+    INVALID_COLLABORATION_STATUS(HttpStatus.BAD_REQUEST, "C0009", "올바르지 않은 협업 상태입니다."),
+
+    // Dashboard
+    REPORT_NOT_READY(HttpStatus.NOT_FOUND, "D0001", "아직 생성되지 않은 리포트입니다."),
+    REPORT_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "D0002", "리포트 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    REPORT_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "D0003", "리포트 생성에 실패했습니다."),
+    INVALID_REPORT_PERIOD(HttpStatus.BAD_REQUEST, "D0004", "종료된 월의 리포트만 생성할 수 있습니다."),
 
     // AI
     OCR_PROCESS_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "AI001", "텍스트 추출에 실패했습니다."),
@@ -0,0 +1,21 @@
+package com.pobluesky.voc.global.security;
+
+/**
+ * JwtAuthenticationFilter 에서 검증된 토큰의 claim으로 만든 요청 단위 principal
+ */
+public record AuthenticatedUser(
+
+    String email,
+
+    Long userId,
+
+    UserRole role,
+
+    // 인증에 사용된 토큰의 SHA-256 digest (토큰 원문은 보관하지 않음)
+    String tokenDigest
+) {
+
+    public boolean isIssuedFor(String token) {
+        return token != null && tokenDigest.equals(JwtTokenProvider.digest(token));
+    }
+}
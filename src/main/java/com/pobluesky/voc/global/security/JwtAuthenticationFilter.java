@@ -25,9 +25,12 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
     ) throws IOException, ServletException {
         String token = resolveToken((HttpServletRequest) request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            // 토큰 검증과 Authentication 생성을 한 번의 파싱으로 처리 (캐시 적중 시 파싱 생략)
+            Authentication authentication = jwtTokenProvider.authenticate(token);
+
+            if (authentication != null)
+                SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
         chain.doFilter(request, response);
@@ -1,40 +1,69 @@
 package com.pobluesky.voc.global.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.pobluesky.voc.global.error.CommonException;
 import com.pobluesky.voc.global.error.ErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
-import java.util.stream.Collectors;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String ROLE_CLAIM = "role";
+
+    private static final String USER_ID_CLAIM = "userId";
+
     private final Key key;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
+    // 서명 키가 고정이므로 parser 는 한 번만 생성해 재사용 (thread-safe)
+    private final JwtParser jwtParser;
+
+    // 토큰 digest -> 검증된 principal/권한, 토큰 만료 시각에 함께 만료
+    private final Cache<String, VerifiedClaims> authenticationCache;
+
+    public JwtTokenProvider(
+        @Value("${jwt.secret}") String secretKey,
+        @Value("${jwt.cache.max-size}") long cacheMaxSize,
+        @Value("${jwt.cache.max-ttl}") Duration cacheMaxTtl
+    ) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+        this.authenticationCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfter(new TokenExpiry(cacheMaxTtl))
+            .build();
     }
 
     public JwtToken generateToken(
@@ -44,7 +73,8 @@ public class JwtTokenProvider {
         Long userId
     ) {
         Claims claims = Jwts.claims().setSubject(String.valueOf(email));
-        claims.put("role", securityRole);
+        claims.put(ROLE_CLAIM, securityRole);
+        claims.put(USER_ID_CLAIM, userId);
 
         Date now = new Date();
 
@@ -73,30 +103,64 @@ public class JwtTokenProvider {
             .build();
     }
 
-    public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+    /**
+     * 토큰을 한 번만 파싱/검증해 Authentication 을 만든다.
+     * 캐시에는 검증된 principal 과 권한만 보관하고 Authentication 은 요청마다 새로 만든다.
+     * 유효하지 않은 토큰이면 null 을 반환한다.
+     */
+    public Authentication authenticate(String token) {
+        String digest = digest(token);
 
-        if (claims.get("role") == null)
-            throw new CommonException(ErrorCode.INVALID_TOKEN);
+        VerifiedClaims cached = authenticationCache.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis()))
+            return cached.toAuthentication();
+
+        Claims claims = verify(token);
+        if (claims == null)
+            return null;
+
+        Date expiration = claims.getExpiration();
+        VerifiedClaims verified = new VerifiedClaims(
+            createPrincipal(claims, digest),
+            createAuthorities(claims),
+            expiration != null ? expiration.getTime() : Long.MAX_VALUE
+        );
+
+        authenticationCache.put(digest, verified);
 
-        Collection<? extends GrantedAuthority> authorities = Arrays.stream(claims.get("role")
-                .toString().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        return verified.toAuthentication();
+    }
 
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+    public Authentication getAuthentication(String accessToken) {
+        Claims claims = parseClaims(accessToken);
 
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        return new UsernamePasswordAuthenticationToken(
+            createPrincipal(claims, digest(accessToken)),
+            null,
+            createAuthorities(claims)
+        );
     }
 
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    public Claims parseClaims(String accessToken) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+            return jwtParser
+                .parseClaimsJws(accessToken)
+                .getBody();
+        } catch (ExpiredJwtException e) {
+
+            return e.getClaims();
+        }
+    }
 
-            return true;
+    private Claims verify(String token) {
+        try {
+            return jwtParser
+                .parseClaimsJws(token)
+                .getBody();
         } catch (SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
         } catch (ExpiredJwtException e) {
@@ -105,21 +169,110 @@ public class JwtTokenProvider {
             log.info("Unsupported JWT Token", e);
         } catch (IllegalArgumentException e) {
             log.info("JWT claims string is empty.", e);
+        } catch (JwtException e) {
+            log.info("Invalid JWT Token", e);
         }
 
-        return false;
+        return null;
     }
 
-    public Claims parseClaims(String accessToken) {
+    // principal 에는 토큰 원문 대신 digest 를 보관해 서비스에 전달된 토큰과 같은 요청인지 확인한다
+    private AuthenticatedUser createPrincipal(Claims claims, String tokenDigest) {
+        return new AuthenticatedUser(
+            claims.getSubject(),
+            getUserId(claims),
+            UserRole.fromRole(getRoles(claims)[0]),
+            tokenDigest
+        );
+    }
+
+    private List<GrantedAuthority> createAuthorities(Claims claims) {
+        return Arrays.stream(getRoles(claims))
+            .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+            .toList();
+    }
+
+    private String[] getRoles(Claims claims) {
+        if (claims.get(ROLE_CLAIM) == null)
+            throw new CommonException(ErrorCode.INVALID_TOKEN);
+
+        return claims.get(ROLE_CLAIM).toString().split(",");
+    }
+
+    // userId claim 이 없는 토큰(이전 발급분)은 null
+    private Long getUserId(Claims claims) {
+        Object userId = claims.get(USER_ID_CLAIM);
+
+        if (userId instanceof Number number)
+            return number.longValue();
+
+        if (userId instanceof String value && !value.isBlank())
+            return Long.valueOf(value);
+
+        return null;
+    }
+
+    // 캐시 키와 principal 에 토큰 원문 대신 SHA-256 digest 사용
+    static String digest(String token) {
         try {
-            return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(accessToken)
-                .getBody();
-        } catch (ExpiredJwtException e) {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-            return e.getClaims();
+    // 불변 값만 보관 (principal 은 record, 권한 목록은 수정 불가)
+    private record VerifiedClaims(
+        AuthenticatedUser principal,
+        List<GrantedAuthority> authorities,
+        long expiresAtMillis
+    ) {
+
+        boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+
+        Authentication toAuthentication() {
+            return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedClaims> {
+
+        private final long maxTtlNanos;
+
+        TokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedClaims value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            if (remainingMillis <= 0)
+                return 0;
+
+            return Math.min(TimeUnit.MILLISECONDS.toNanos(remainingMillis), maxTtlNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            String key,
+            VerifiedClaims value,
+            long currentTime,
+            long currentDuration
+        ) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            String key,
+            VerifiedClaims value,
+            long currentTime,
+            long currentDuration
+        ) {
+            return currentDuration;
         }
     }
 }
@@ -14,4 +14,14 @@ public enum UserRole {
 
     private final String role;
     private final String name;
+
+    // 토큰의 role claim (ex. ROLE_SALES) 으로 UserRole 조회
+    public static UserRole fromRole(String role) {
+        for (UserRole userRole : UserRole.values()) {
+            if (userRole.getRole().equals(role))
+                return userRole;
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,46 @@
+package com.pobluesky.voc.global.security;
+
+import com.pobluesky.voc.feign.UserClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 토큰으로 사용자 번호를 조회한다.
+ * 로컬 검증 모드에서는 JwtAuthenticationFilter 가 검증한 claim 을 사용하고,
+ * userId claim 이 없거나 필터에서 인증되지 않은 토큰인 경우에만 user 서비스를 호출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserTokenResolver {
+
+    private final UserClient userClient;
+
+    @Value("${jwt.local-resolution.enabled}")
+    private boolean localResolutionEnabled;
+
+    public Long resolveUserId(String token) {
+        if (localResolutionEnabled) {
+            AuthenticatedUser user = getAuthenticatedUser(token);
+
+            if (user != null && user.userId() != null)
+                return user.userId();
+        }
+
+        return userClient.parseToken(token);
+    }
+
+    // 현재 요청에서 인증된 사용자 (요청 토큰과 일치하는 경우에만)
+    public AuthenticatedUser getAuthenticatedUser(String token) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null
+            || !(authentication.getPrincipal() instanceof AuthenticatedUser user)
+            || !user.isIssuedFor(token))
+            return null;
+
+        return user;
+    }
+}
@@ -0,0 +1,39 @@
+package com.pobluesky.voc.global.sync;
+
+import com.pobluesky.voc.global.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 증분 동기화 작업별 기준 시각
+ * 마지막으로 성공한 실행의 시작 시각을 저장하고, 다음 실행은 이 시각 이후 변경분만 가져온다.
+ * (변경이 없어도 실행이 성공하면 기준 시각이 앞으로 이동)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sync_watermark")
+public class SyncWatermark extends BaseEntity {
+
+    @Id
+    private String name; // 동기화 작업 이름
+
+    private LocalDateTime lastStartedAt; // 마지막 성공 실행의 시작 시각
+
+    public static SyncWatermark of(String name, LocalDateTime lastStartedAt) {
+        SyncWatermark watermark = new SyncWatermark();
+        watermark.name = name;
+        watermark.lastStartedAt = lastStartedAt;
+
+        return watermark;
+    }
+
+    public void advance(LocalDateTime startedAt) {
+        this.lastStartedAt = startedAt;
+    }
+}
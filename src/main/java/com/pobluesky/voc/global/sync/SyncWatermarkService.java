@@ -0,0 +1,37 @@
+package com.pobluesky.voc.global.sync;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SyncWatermarkService {
+
+    private final SyncWatermarkRepository syncWatermarkRepository;
+
+    // 시계 차이와 동기화 중 변경분을 놓치지 않도록 기준 시각을 앞당기는 폭
+    @Value("${sync-watermark.overlap-minutes}")
+    private long overlapMinutes;
+
+    // 증분 조회 기준 시각: 마지막 성공 실행의 시작 시각 - overlap (한 번도 성공하지 않았으면 null, 전체 동기화)
+    @Transactional(readOnly = true)
+    public LocalDateTime getSince(String name) {
+        return syncWatermarkRepository.findById(name)
+            .map(SyncWatermark::getLastStartedAt)
+            .map(lastStartedAt -> lastStartedAt.minusMinutes(overlapMinutes))
+            .orElse(null);
+    }
+
+    // 동기화 작업과 같은 트랜잭션에서 호출해 변경분 반영과 함께 커밋
+    @Transactional
+    public void advance(String name, LocalDateTime startedAt) {
+        syncWatermarkRepository.findById(name)
+            .ifPresentOrElse(
+                watermark -> watermark.advance(startedAt),
+                () -> syncWatermarkRepository.save(SyncWatermark.of(name, startedAt))
+            );
+    }
+}
@@ -0,0 +1,48 @@
+package com.pobluesky.voc.global.util;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import java.time.LocalDateTime;
+
+/**
+ * (작성일, ID) 키셋 페이징 조건
+ * created_date 는 nullable 이므로 null 행은 정렬과 같은 위치 (내림차순: 마지막, 오름차순: 처음)에서 ID 순으로 이어서 조회한다.
+ * 정렬은 반드시 같은 순서로 지정해야 한다. (createdDate.desc().nullsLast(), id.desc() / createdDate.asc().nullsFirst(), id.asc())
+ */
+public final class KeysetCondition {
+
+    private KeysetCondition() {
+    }
+
+    // (createdDate DESC NULLS LAST, id DESC) 순서에서 커서 다음 행
+    public static BooleanExpression descending(
+        ComparableExpression<LocalDateTime> createdDate,
+        NumberExpression<Long> id,
+        PageCursor cursor
+    ) {
+        if (cursor.createdDate() == null) {
+            return createdDate.isNull().and(id.lt(cursor.id()));
+        }
+
+        // createdDate <= ? 범위 조건을 함께 두어 (createdDate, id) 인덱스 범위 탐색이 가능하도록 함
+        return createdDate.loe(cursor.createdDate())
+            .and(createdDate.lt(cursor.createdDate()).or(id.lt(cursor.id())))
+            .or(createdDate.isNull());
+    }
+
+    // (createdDate ASC NULLS FIRST, id ASC) 순서에서 커서 다음 행
+    public static BooleanExpression ascending(
+        ComparableExpression<LocalDateTime> createdDate,
+        NumberExpression<Long> id,
+        PageCursor cursor
+    ) {
+        if (cursor.createdDate() == null) {
+            return createdDate.isNull().and(id.gt(cursor.id()))
+                .or(createdDate.isNotNull());
+        }
+
+        return createdDate.goe(cursor.createdDate())
+            .and(createdDate.gt(cursor.createdDate()).or(id.gt(cursor.id())));
+    }
+}
@@ -0,0 +1,73 @@
+package com.pobluesky.voc.global.util;
+
+import com.pobluesky.voc.global.error.CommonException;
+import com.pobluesky.voc.global.error.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.springframework.util.StringUtils;
+
+/**
+ * 키셋 페이징 커서
+ * 마지막으로 내려준 행의 정렬 키 (정렬 기준, 작성일, ID, 유형)를 Base64 URL 토큰으로 주고받는다.
+ * 작성일/유형은 null 일 수 있다 (빈 값으로 기록).
+ */
+public record PageCursor(
+    String sortBy,
+    LocalDateTime createdDate,
+    Long id,
+    String type
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static final int MAX_SIZE = 100;
+
+    // 요청 size를 1 ~ MAX_SIZE 범위로 보정 (size + 1건 조회 전에 적용)
+    public static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    public String encode() {
+        String raw = String.join(
+            DELIMITER,
+            sortBy,
+            createdDate != null ? createdDate.toString() : "",
+            id.toString(),
+            type != null ? type : ""
+        );
+
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 null (첫 페이지), 정렬 기준이 다르거나 형식이 잘못되면 예외
+    public static PageCursor decode(String cursor, String sortBy) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            PageCursor pageCursor = new PageCursor(
+                parts[0],
+                StringUtils.hasText(parts[1]) ? LocalDateTime.parse(parts[1]) : null,
+                Long.valueOf(parts[2]),
+                StringUtils.hasText(parts[3]) ? parts[3] : null
+            );
+
+            if (!pageCursor.sortBy().equals(sortBy)) {
+                throw new CommonException(ErrorCode.INVALID_CURSOR);
+            }
+
+            return pageCursor;
+        } catch (CommonException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CommonException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
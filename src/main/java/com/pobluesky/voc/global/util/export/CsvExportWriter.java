@@ -0,0 +1,74 @@
+package com.pobluesky.voc.global.util.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// RFC 4180 CSV (Excel 에서 한글이 깨지지 않도록 UTF-8 BOM 을 먼저 쓴다)
+public class CsvExportWriter implements ExportWriter {
+
+    private static final char BOM = '\uFEFF';
+
+    // 스프레드시트가 수식으로 해석하는 첫 글자
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer writer;
+
+    private boolean aborted;
+
+    public CsvExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            writer.write(BOM);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(ExportWriter.format(values.get(i))));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void abort() {
+        aborted = true;
+    }
+
+    // 실패한 경우 버퍼에 남은 행을 내보내지 않는다
+    @Override
+    public void close() throws IOException {
+        if (!aborted) {
+            writer.flush();
+        }
+    }
+
+    private String escape(String value) {
+        // 스프레드시트에서 수식으로 해석되지 않도록 막는다
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+            && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
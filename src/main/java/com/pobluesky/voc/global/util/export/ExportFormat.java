@@ -0,0 +1,51 @@
+package com.pobluesky.voc.global.util.export;
+
+import com.pobluesky.voc.global.error.CommonException;
+import com.pobluesky.voc.global.error.ErrorCode;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+    XLSX("xlsx", MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+
+    private final String extension;
+
+    private final MediaType mediaType;
+
+    public static ExportFormat from(String format) {
+        for (ExportFormat exportFormat : ExportFormat.values()) {
+            if (exportFormat.name().equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+
+        throw new CommonException(ErrorCode.INVALID_EXPORT_FORMAT);
+    }
+
+    public ExportWriter open(OutputStream outputStream, String sheetName) {
+        return switch (this) {
+            case CSV -> new CsvExportWriter(outputStream);
+            case XLSX -> new XlsxExportWriter(outputStream, sheetName);
+        };
+    }
+
+    // 예: attachment; filename="questions_20240101.xlsx"
+    public String contentDisposition(String fileName) {
+        String date = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        return ContentDisposition.attachment()
+            .filename(fileName + "_" + date + "." + extension, StandardCharsets.UTF_8)
+            .build()
+            .toString();
+    }
+}
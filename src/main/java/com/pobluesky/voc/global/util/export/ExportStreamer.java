@@ -0,0 +1,87 @@
+package com.pobluesky.voc.global.util.export;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 목록 내보내기 공통 처리
+ * 읽기 전용 트랜잭션 안에서 fetch size 커서로 행을 읽고, chunk 단위로 사용자 정보를 일괄 보완한 뒤 바로 기록한다.
+ * (PostgreSQL 은 autocommit 이 꺼진 트랜잭션 안에서만 fetch size 만큼 나눠 가져온다)
+ * 본문을 쓰기 시작하면 200 응답이 이미 나간 뒤이므로, 정렬/필터 검증은 호출한 쪽에서 stream 호출 전에 끝내야 한다.
+ * 기록 중 실패하면 writer 를 abort 해 완전한 파일처럼 끝맺지 않고 예외로 응답을 끊는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExportStreamer {
+
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${export.fetch-size}")
+    private int fetchSize;
+
+    @Value("${export.chunk-size}")
+    private int chunkSize;
+
+    /**
+     * @param query      fetch size 를 받아 행 스트림을 여는 조회
+     * @param chunkRows  chunk 단위 행 -> 출력 행 (사용자 정보 일괄 조회 등)
+     */
+    public <T> StreamingResponseBody stream(
+        ExportFormat format,
+        String sheetName,
+        List<String> header,
+        IntFunction<Stream<T>> query,
+        Function<List<T>, List<List<?>>> chunkRows
+    ) {
+        return outputStream -> {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                try (ExportWriter writer = format.open(outputStream, sheetName)) {
+                    try (Stream<T> rows = query.apply(fetchSize)) {
+                        writer.writeRow(header);
+                        write(rows.iterator(), writer, chunkRows);
+                    } catch (IOException | RuntimeException e) {
+                        writer.abort();
+                        throw e;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+    }
+
+    private <T> void write(
+        Iterator<T> rows,
+        ExportWriter writer,
+        Function<List<T>, List<List<?>>> chunkRows
+    ) throws IOException {
+        List<T> chunk = new ArrayList<>(chunkSize);
+
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+
+            if (chunk.size() == chunkSize || !rows.hasNext()) {
+                for (List<?> row : chunkRows.apply(chunk)) {
+                    writer.writeRow(row);
+                }
+                writer.flush();
+                chunk.clear();
+            }
+        }
+    }
+}
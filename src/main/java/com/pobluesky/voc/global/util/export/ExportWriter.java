@@ -0,0 +1,35 @@
+package com.pobluesky.voc.global.util.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 목록 내보내기 행 단위 writer
+ * 행을 모아두지 않고 바로 출력(또는 임시 파일)으로 내보내므로 행 수와 무관하게 메모리 사용량이 일정하다.
+ */
+public interface ExportWriter extends Closeable {
+
+    DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    void writeRow(List<?> values) throws IOException;
+
+    // 지금까지 쓴 행을 출력으로 내보낸다
+    void flush() throws IOException;
+
+    // 기록 중 실패한 경우 close 에서 파일을 정상적으로 끝맺지 않는다 (잘린 파일이 완전한 파일처럼 보이지 않도록)
+    void abort();
+
+    static String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.format(DATE_TIME_FORMATTER);
+        }
+
+        return String.valueOf(value);
+    }
+}
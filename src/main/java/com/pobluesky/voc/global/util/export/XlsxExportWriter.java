@@ -0,0 +1,100 @@
+package com.pobluesky.voc.global.util.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * SXSSF 스트리밍 엑셀 writer
+ * 메모리에는 최근 ROW_WINDOW 행만 두고 나머지는 압축 임시 파일로 내보낸 뒤, close 시점에 응답으로 기록한다.
+ * 시트 최대 행 수를 넘으면 다음 시트에 헤더부터 이어서 쓴다.
+ */
+public class XlsxExportWriter implements ExportWriter {
+
+    private static final int ROW_WINDOW = 100;
+
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private static final int MAX_TEXT_LENGTH = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+
+    private final OutputStream outputStream;
+
+    private final SXSSFWorkbook workbook;
+
+    private final String sheetName;
+
+    private SXSSFSheet sheet;
+
+    private List<?> header;
+
+    private int rowIndex;
+
+    private boolean aborted;
+
+    public XlsxExportWriter(OutputStream outputStream, String sheetName) {
+        this.outputStream = outputStream;
+        this.sheetName = sheetName;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(sheetName);
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        // 첫 행은 헤더로 보고 시트가 바뀔 때 다시 쓴다
+        if (header == null) {
+            header = values;
+        } else if (rowIndex >= MAX_ROWS) {
+            sheet = workbook.createSheet(sheetName + " (" + (workbook.getNumberOfSheets() + 1) + ")");
+            rowIndex = 0;
+            createRow(header);
+        }
+
+        createRow(values);
+    }
+
+    @Override
+    public void flush() {
+        // SXSSF 는 ROW_WINDOW 를 넘는 행을 이미 임시 파일로 내보냈다
+    }
+
+    @Override
+    public void abort() {
+        aborted = true;
+    }
+
+    // 실패한 경우 workbook 을 기록하지 않고 임시 파일만 정리한다
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!aborted) {
+                workbook.write(outputStream);
+                outputStream.flush();
+            }
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void createRow(List<?> values) {
+        Row row = sheet.createRow(rowIndex++);
+
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            Cell cell = row.createCell(i);
+
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else {
+                String text = ExportWriter.format(value);
+                cell.setCellValue(text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text);
+            }
+        }
+    }
+}
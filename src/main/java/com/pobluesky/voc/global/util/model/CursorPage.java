@@ -0,0 +1,14 @@
+package com.pobluesky.voc.global.util.model;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 조회 결과
+ * nextCursor 는 다음 페이지 조회 시 그대로 전달하는 불투명 토큰 (마지막 페이지면 null)
+ */
+public record CursorPage<T>(
+    List<T> content,
+    String nextCursor,
+    boolean hasNext
+) {
+}
@@ -0,0 +1,88 @@
+package com.pobluesky.voc.manager.entity;
+
+import com.pobluesky.voc.feign.Manager;
+import com.pobluesky.voc.global.BaseEntity;
+import com.pobluesky.voc.global.entity.Department;
+import com.pobluesky.voc.global.security.UserRole;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * user 서비스 담당자 정보의 로컬 읽기 모델
+ * 협업 목록의 담당자명 필터/표시를 원격 호출 없이 처리하기 위해 주기적으로 동기화한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "manager_directory",
+    // 담당자명 필터용 lower(name) 식 인덱스는 V7 마이그레이션에서 관리한다 (@Index 로 표현할 수 없음)
+    indexes = @Index(name = "idx_manager_directory_department", columnList = "department")
+)
+public class ManagerDirectory extends BaseEntity {
+
+    @Id
+    private Long userId; // 담당자 번호 (user 서비스와 동일)
+
+    private String empNo;
+
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    private Department department;
+
+    @Enumerated(EnumType.STRING)
+    private UserRole role;
+
+    private LocalDateTime syncedAt; // 마지막으로 변경 내용이 반영된 시각
+
+    public static ManagerDirectory from(Manager manager, LocalDateTime syncedAt) {
+        ManagerDirectory directory = new ManagerDirectory();
+        directory.userId = manager.getUserId();
+        directory.apply(manager, syncedAt);
+
+        return directory;
+    }
+
+    // 변경된 경우에만 반영하고 true 반환
+    public boolean update(Manager manager, LocalDateTime syncedAt) {
+        if (Objects.equals(empNo, manager.getEmpNo())
+            && Objects.equals(name, manager.getName())
+            && department == manager.getDepartment()
+            && role == manager.getRole()) {
+            return false;
+        }
+
+        apply(manager, syncedAt);
+
+        return true;
+    }
+
+    public Manager toManager() {
+        Manager manager = new Manager();
+        manager.setUserId(userId);
+        manager.setEmpNo(empNo);
+        manager.setName(name);
+        manager.setDepartment(department);
+        manager.setRole(role);
+
+        return manager;
+    }
+
+    private void apply(Manager manager, LocalDateTime syncedAt) {
+        this.empNo = manager.getEmpNo();
+        this.name = manager.getName();
+        this.department = manager.getDepartment();
+        this.role = manager.getRole();
+        this.syncedAt = syncedAt;
+    }
+}
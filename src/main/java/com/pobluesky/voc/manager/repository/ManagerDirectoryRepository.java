@@ -0,0 +1,9 @@
+package com.pobluesky.voc.manager.repository;
+
+import com.pobluesky.voc.manager.entity.ManagerDirectory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ManagerDirectoryRepository extends JpaRepository<ManagerDirectory, Long> {
+}
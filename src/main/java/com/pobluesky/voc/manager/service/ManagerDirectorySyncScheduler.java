@@ -0,0 +1,92 @@
+package com.pobluesky.voc.manager.service;
+
+import com.pobluesky.voc.feign.CachingUserClient;
+import com.pobluesky.voc.feign.Manager;
+import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.global.redisson.DistributedLock;
+import com.pobluesky.voc.global.sync.SyncWatermarkService;
+import com.pobluesky.voc.manager.entity.ManagerDirectory;
+import com.pobluesky.voc.manager.repository.ManagerDirectoryRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * manager_directory 증분 동기화
+ * 마지막 성공 실행의 시작 시각 이후 변경된 담당자만 user 서비스에서 가져와 반영한다. (기준 시각이 없으면 전체 동기화)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ManagerDirectorySyncScheduler {
+
+    private static final String WATERMARK = "manager-directory";
+
+    private final ManagerDirectoryRepository managerDirectoryRepository;
+
+    private final UserClient userClient;
+
+    private final CachingUserClient cachingUserClient;
+
+    private final SyncWatermarkService syncWatermarkService;
+
+    @Scheduled(
+        initialDelayString = "${manager-directory.sync.initial-delay-ms}",
+        fixedDelayString = "${manager-directory.sync.interval-ms}"
+    )
+    @DistributedLock(key = "'manager-directory-sync'", leaseTime = 300L)
+    public void syncManagers() {
+        LocalDateTime startedAt = LocalDateTime.now().withNano(0);
+        LocalDateTime since = syncWatermarkService.getSince(WATERMARK);
+
+        List<Manager> managers = userClient.getManagersUpdatedSince(since).getData();
+        if (managers == null || managers.isEmpty()) {
+            // 변경이 없어도 다음 조회 구간은 이번 실행 이후로 이동
+            syncWatermarkService.advance(WATERMARK, startedAt);
+            return;
+        }
+
+        Map<Long, ManagerDirectory> existing = managerDirectoryRepository
+            .findAllById(managers.stream().map(Manager::getUserId).toList())
+            .stream()
+            .collect(Collectors.toMap(ManagerDirectory::getUserId, Function.identity()));
+
+        List<ManagerDirectory> changed = new ArrayList<>();
+        for (Manager manager : managers) {
+            if (manager.getUserId() == null) {
+                continue;
+            }
+
+            ManagerDirectory directory = existing.get(manager.getUserId());
+
+            if (directory == null) {
+                changed.add(ManagerDirectory.from(manager, startedAt));
+            } else if (directory.update(manager, startedAt)) {
+                changed.add(directory);
+            }
+        }
+
+        managerDirectoryRepository.saveAll(changed);
+
+        // 변경된 담당자의 프로필 캐시 무효화 (전체 동기화일 때는 캐시가 TTL로 갱신되도록 둔다)
+        if (since != null) {
+            managers.stream()
+                .map(Manager::getUserId)
+                .filter(Objects::nonNull)
+                .forEach(cachingUserClient::evictManager);
+        }
+
+        syncWatermarkService.advance(WATERMARK, startedAt);
+
+        log.info("Manager directory sync finished. since={}, fetched={}, changed={}",
+            since, managers.size(), changed.size());
+    }
+}
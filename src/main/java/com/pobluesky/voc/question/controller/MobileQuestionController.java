@@ -8,11 +8,14 @@ import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequiredArgsConstructor
 @RestController
@@ -21,10 +24,14 @@ public class MobileQuestionController {
 
     private final QuestionService questionService;
 
+    // 활성 질문 피드 (최신순 페이징)
     @GetMapping
-    public List<MobileQuestionSummaryResponseDTO> getAllQuestions() {
+    public List<MobileQuestionSummaryResponseDTO> getAllQuestions(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "15") int size
+    ) {
 
-        return questionService.getAllQuestions();
+        return questionService.getQuestionFeed(page, size);
     }
 
     @GetMapping("/{questionId}")
@@ -35,10 +42,13 @@ public class MobileQuestionController {
 
     @GetMapping("/search")
     public List<MobileQuestionSummaryResponseDTO> getQuestionBySearch(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "15") int size,
             @RequestParam(defaultValue = "LATEST") String sortBy,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String type,
             @RequestParam(required = false) String title,
+            @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String customerName,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
@@ -47,13 +57,47 @@ public class MobileQuestionController {
         QuestionType questionTypeEnum = (type != null) ? QuestionType.fromString(type) : null;
 
         return questionService.getQuestionsBySearch(
+                page,
+                size,
                 sortBy,
                 statusEnum,
                 questionTypeEnum,
                 title,
+                keyword,
                 customerName,
                 startDate,
                 endDate
         );
     }
+
+    // 검색 결과 전체를 JSON 배열로 스트리밍 (정렬은 LATEST/OLDEST/TYPE)
+    @GetMapping("/search/stream")
+    public ResponseEntity<StreamingResponseBody> streamQuestionBySearch(
+            @RequestParam(defaultValue = "LATEST") String sortBy,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String customerName,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
+    ) {
+        QuestionStatus statusEnum =  (status != null) ? QuestionStatus.fromString(status) : null;
+        QuestionType questionTypeEnum = (type != null) ? QuestionType.fromString(type) : null;
+
+        StreamingResponseBody body = questionService.streamQuestionsBySearch(
+                sortBy,
+                statusEnum,
+                questionTypeEnum,
+                title,
+                keyword,
+                customerName,
+                startDate,
+                endDate
+        );
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
@@ -1,7 +1,9 @@
 package com.pobluesky.voc.question.controller;
 
 import com.pobluesky.voc.global.util.ResponseFactory;
+import com.pobluesky.voc.global.util.export.ExportFormat;
 import com.pobluesky.voc.global.util.model.CommonResult;
+import com.pobluesky.voc.global.util.model.CursorPage;
 import com.pobluesky.voc.global.util.model.JsonResult;
 import com.pobluesky.voc.question.dto.request.QuestionCreateRequestDTO;
 import com.pobluesky.voc.question.dto.request.QuestionUpdateRequestDTO;
@@ -20,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -33,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -42,7 +46,7 @@ public class QuestionController {
     private final QuestionService questionService;
 
     @GetMapping("/managers")
-    @Operation(summary = "질문 조회(담당자)", description = "등록된 모든 질문을 조건에 맞게 조회한다.")
+    @Operation(summary = "질문 조회(담당자)", description = "등록된 모든 질문을 조건에 맞게 조회한다. keyword 는 제목/본문 검색이며 sortBy=RELEVANCE 로 유사도순 정렬")
     public ResponseEntity<JsonResult> getQuestionByManager(
         @RequestHeader("Authorization") String token,
         @RequestParam(defaultValue = "0") int page,
@@ -51,12 +55,14 @@ public class QuestionController {
         @RequestParam(required = false) QuestionStatus status,
         @RequestParam(required = false) QuestionType type,
         @RequestParam(required = false) String title,
+        @RequestParam(required = false) String keyword,
         @RequestParam(required = false) Long questionId,
         @RequestParam(required = false) String customerName,
         @RequestParam(required = false) Boolean isActivated,
         @RequestParam(required = false) Long managerId,
         @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
-        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+        @RequestParam(required = false) Integer contentsLength) {
 
         Page<QuestionSummaryResponseDTO> questions = questionService.getQuestionsByManager(
             token,
@@ -66,12 +72,14 @@ public class QuestionController {
             status,
             type,
             title,
+            keyword,
             questionId,
             customerName,
             isActivated,
             managerId,
             startDate,
-            endDate
+            endDate,
+            contentsLength
         );
 
         Map<String, Object> response = new HashMap<>();
@@ -84,6 +92,92 @@ public class QuestionController {
             .body(ResponseFactory.getSuccessJsonResult(response));
     }
 
+    @GetMapping("/managers/export")
+    @Operation(summary = "질문 목록 내보내기(담당자)", description = "질문 조회(담당자)와 같은 조건의 전체 목록을 엑셀(xlsx) 또는 csv 파일로 내려받는다.")
+    public ResponseEntity<StreamingResponseBody> exportQuestionsByManager(
+        @RequestHeader("Authorization") String token,
+        @RequestParam(defaultValue = "XLSX") String format,
+        @RequestParam(defaultValue = "LATEST") String sortBy,
+        @RequestParam(required = false) QuestionStatus status,
+        @RequestParam(required = false) QuestionType type,
+        @RequestParam(required = false) String title,
+        @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) Long questionId,
+        @RequestParam(required = false) String customerName,
+        @RequestParam(required = false) Boolean isActivated,
+        @RequestParam(required = false) Long managerId,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        StreamingResponseBody body = questionService.exportQuestionsByManager(
+            token,
+            exportFormat,
+            sortBy,
+            status,
+            type,
+            title,
+            keyword,
+            questionId,
+            customerName,
+            isActivated,
+            managerId,
+            startDate,
+            endDate
+        );
+
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.contentDisposition("questions"))
+            .contentType(exportFormat.getMediaType())
+            .body(body);
+    }
+
+    @GetMapping("/managers/cursor")
+    @Operation(summary = "질문 커서 조회(담당자)", description = "등록된 모든 질문을 조건에 맞게 커서 기반으로 조회한다.")
+    public ResponseEntity<JsonResult> getQuestionByManagerWithCursor(
+        @RequestHeader("Authorization") String token,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "15") int size,
+        @RequestParam(defaultValue = "LATEST") String sortBy,
+        @RequestParam(required = false) QuestionStatus status,
+        @RequestParam(required = false) QuestionType type,
+        @RequestParam(required = false) String title,
+        @RequestParam(required = false) Long questionId,
+        @RequestParam(required = false) String customerName,
+        @RequestParam(required = false) Boolean isActivated,
+        @RequestParam(required = false) Long managerId,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+        @RequestParam(required = false) Integer contentsLength) {
+
+        CursorPage<QuestionSummaryResponseDTO> questions = questionService.getQuestionsByManagerWithCursor(
+            token,
+            cursor,
+            size,
+            sortBy,
+            status,
+            type,
+            title,
+            questionId,
+            customerName,
+            isActivated,
+            managerId,
+            startDate,
+            endDate,
+            contentsLength
+        );
+
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("questionsInfo", questions.content());
+        response.put("nextCursor", questions.nextCursor());
+        response.put("hasNext", questions.hasNext());
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(ResponseFactory.getSuccessJsonResult(response));
+    }
+
     @GetMapping("/managers/{questionId}")
     @Operation(summary = "질문별 상세 조회(담당자)", description = "등록된 질문을 질문 번호로 조회한다.")
     public ResponseEntity<JsonResult> getQuestionByQuestionIdForManager(
@@ -113,7 +207,8 @@ public class QuestionController {
         @RequestParam(required = false) String title,
         @RequestParam(required = false) Long questionId,
         @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
-        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+        @RequestParam(required = false) Integer contentsLength) {
 
         Page<QuestionSummaryResponseDTO> questions = questionService.getQuestionsByCustomer(
             token,
@@ -126,7 +221,8 @@ public class QuestionController {
             title,
             questionId,
             startDate,
-            endDate
+            endDate,
+            contentsLength
         );
 
         Map<String, Object> response = new HashMap<>();
@@ -139,6 +235,47 @@ public class QuestionController {
             .body(ResponseFactory.getSuccessJsonResult(response));
     }
 
+    @GetMapping("/customers/{userId}/cursor")
+    @Operation(summary = "질문 커서 조회(고객사)", description = "등록된 모든 질문을 조건에 맞게 커서 기반으로 조회한다.")
+    public ResponseEntity<JsonResult> getQuestionsByCustomerWithCursor(
+        @RequestHeader("Authorization") String token,
+        @PathVariable Long userId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "15") int size,
+        @RequestParam(defaultValue = "LATEST") String sortBy,
+        @RequestParam(required = false) QuestionStatus status,
+        @RequestParam(required = false) QuestionType type,
+        @RequestParam(required = false) String title,
+        @RequestParam(required = false) Long questionId,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+        @RequestParam(required = false) Integer contentsLength) {
+
+        CursorPage<QuestionSummaryResponseDTO> questions = questionService.getQuestionsByCustomerWithCursor(
+            token,
+            userId,
+            cursor,
+            size,
+            sortBy,
+            status,
+            type,
+            title,
+            questionId,
+            startDate,
+            endDate,
+            contentsLength
+        );
+
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("questionsInfo", questions.content());
+        response.put("nextCursor", questions.nextCursor());
+        response.put("hasNext", questions.hasNext());
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(ResponseFactory.getSuccessJsonResult(response));
+    }
+
     @GetMapping("/customers/{userId}/{questionId}")
     @Operation(summary = "질문별 상세 조회(고객사)", description = "등록된 질문을 질문 번호로 조회한다.")
     public ResponseEntity<JsonResult> getQuestionByQuestionId(
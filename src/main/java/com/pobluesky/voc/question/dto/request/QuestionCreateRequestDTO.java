@@ -14,10 +14,17 @@ public record QuestionCreateRequestDTO(
 
     QuestionType type
 ) {
-    public Question toQuestionEntity(Long inquiryId, Long customerId, String fileName, String filePath) {
+    public Question toQuestionEntity(
+        Long inquiryId,
+        Long customerId,
+        String customerName,
+        String fileName,
+        String filePath
+    ) {
 
         return Question.builder()
             .userId(customerId)
+            .customerName(customerName)
             .inquiryId(inquiryId)
             .title(title)
             .contents(contents)
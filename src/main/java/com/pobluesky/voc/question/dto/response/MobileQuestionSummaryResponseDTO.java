@@ -2,10 +2,7 @@ package com.pobluesky.voc.question.dto.response;
 
 
 import com.pobluesky.voc.feign.Customer;
-import com.pobluesky.voc.feign.Inquiry;
-import com.pobluesky.voc.feign.InquiryClient;
 import com.pobluesky.voc.feign.UserClient;
-import com.pobluesky.voc.global.util.model.JsonResult;
 import com.pobluesky.voc.question.entity.Question;
 import lombok.Builder;
 
@@ -28,16 +25,14 @@ public record MobileQuestionSummaryResponseDTO (
 
         String contents
 ) {
-    public static MobileQuestionSummaryResponseDTO from(Question question, UserClient userClient, InquiryClient inquiryClient) {
+    // 문의 번호는 질문에 저장된 값을 그대로 사용 (문의 서비스 조회 없음)
+    public static MobileQuestionSummaryResponseDTO from(Question question, UserClient userClient) {
         Customer customer = userClient.getCustomerByIdWithoutToken(question.getUserId()).getData();
-        JsonResult<Inquiry> inquiryResult = inquiryClient.getInquiryByIdWithoutToken(question.getInquiryId());
-        Inquiry inquiry = inquiryResult != null ? inquiryResult.getData() : null;
 
         return MobileQuestionSummaryResponseDTO.builder()
-                .inquiryId(Optional.ofNullable(inquiry)
-                    .map(Inquiry::getInquiryId))
+                .inquiryId(Optional.ofNullable(question.getInquiryId()))
                 .questionId(question.getQuestionId())
-                .customer(customer.getName())
+                .customer(customer != null ? customer.getName() : null)
                 .title(question.getTitle())
                 .status(question.getStatus().getStatus())
                 .type(question.getType().getType())
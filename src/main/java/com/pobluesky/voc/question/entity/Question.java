@@ -38,6 +38,9 @@ public class Question extends BaseEntity {
     @JoinColumn(name = "user_id")
     private Long userId; // 고객사 번호
 
+    @Column(name = "customer_name")
+    private String customerName; // 고객사명 (user 서비스 정보 비정규화, 목록 필터용)
+
     private String title;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -55,6 +58,8 @@ public class Question extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private QuestionType type;
 
+    // 연관관계의 주인이 아닌 쪽은 프록시로 지연 로딩할 수 없으므로,
+    // Question 을 조회하는 쿼리에서는 answer/collaboration 을 fetch join 으로 함께 가져온다. (QuestionRepository 참고)
     @OneToOne(mappedBy = "question")
     @JoinColumn(name = "col_id")
     private Collaboration collaboration;
@@ -69,6 +74,7 @@ public class Question extends BaseEntity {
     private Question(
         Long inquiryId,
         Long userId,
+        String customerName,
         Collaboration collaboration,
         String title,
         String contents,
@@ -79,6 +85,7 @@ public class Question extends BaseEntity {
     ) {
         this.inquiryId = inquiryId;
         this.userId = userId;
+        this.customerName = customerName;
         this.collaboration = collaboration;
         this.title = title;
         this.contents = contents;
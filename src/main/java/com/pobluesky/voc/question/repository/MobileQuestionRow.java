@@ -0,0 +1,26 @@
+package com.pobluesky.voc.question.repository;
+
+import com.pobluesky.voc.question.entity.QuestionStatus;
+import com.pobluesky.voc.question.entity.QuestionType;
+
+/**
+ * 모바일 질문 피드 조회용 프로젝션
+ */
+public record MobileQuestionRow(
+
+    Long questionId,
+
+    Long inquiryId,
+
+    Long userId,
+
+    String title,
+
+    QuestionStatus status,
+
+    QuestionType type,
+
+    String contents
+
+) {
+}
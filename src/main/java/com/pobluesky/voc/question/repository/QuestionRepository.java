@@ -3,16 +3,40 @@ package com.pobluesky.voc.question.repository;
 import com.pobluesky.voc.question.entity.Question;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long>, QuestionRepositoryCustom {
 
-    @Query("SELECT q FROM Question q WHERE q.questionId = :questionId AND q.isActivated = true")
+    // answer/collaboration 은 역방향 일대일이라 지연 로딩이 되지 않으므로 함께 조회
+    @Override
+    @EntityGraph(attributePaths = {"answer", "collaboration"})
+    Optional<Question> findById(Long questionId);
+
+    @Query("SELECT q FROM Question q " +
+        "LEFT JOIN FETCH q.answer " +
+        "LEFT JOIN FETCH q.collaboration " +
+        "WHERE q.questionId = :questionId AND q.isActivated = true")
     Optional<Question> findActiveQuestionByQuestionId(Long questionId);
 
-    @Query("SELECT q FROM Question q WHERE q.isActivated = true")
-    List<Question> findActiveQuestions();
+    // 활성 질문 상태별 건수 [status, count]
+    @Query("SELECT q.status, COUNT(q) FROM Question q " +
+        "WHERE q.isActivated = true AND q.status IS NOT NULL GROUP BY q.status")
+    List<Object[]> countActiveGroupByStatus();
+
+    @Query("SELECT DISTINCT q.userId FROM Question q WHERE q.userId IS NOT NULL ORDER BY q.userId")
+    Slice<Long> findDistinctUserIds(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Question q SET q.customerName = :customerName " +
+        "WHERE q.userId = :userId " +
+        "AND (q.customerName IS NULL OR q.customerName <> :customerName)")
+    int updateCustomerName(@Param("userId") Long userId, @Param("customerName") String customerName);
 }
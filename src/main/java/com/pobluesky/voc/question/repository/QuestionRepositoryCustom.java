@@ -1,10 +1,14 @@
 package com.pobluesky.voc.question.repository;
 
+import com.pobluesky.voc.global.util.PageCursor;
+import com.pobluesky.voc.global.util.model.CursorPage;
+import com.pobluesky.voc.question.dto.response.MobileQuestionSummaryResponseDTO;
 import com.pobluesky.voc.question.dto.response.QuestionSummaryResponseDTO;
 import com.pobluesky.voc.question.entity.QuestionStatus;
 import com.pobluesky.voc.question.entity.QuestionType;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,13 +18,15 @@ public interface QuestionRepositoryCustom {
         QuestionStatus status,
         QuestionType type,
         String title,
+        String keyword,
         Long questionId,
         String customerName,
         Boolean isActivated,
         LocalDate startDate,
         LocalDate endDate,
         Long managerId,
-        String sortBy
+        String sortBy,
+        Integer contentsLength
     );
 
     Page<QuestionSummaryResponseDTO> findQuestionsByCustomer(
@@ -32,16 +38,79 @@ public interface QuestionRepositoryCustom {
         Long questionId,
         LocalDate startDate,
         LocalDate endDate,
-        String sortBy
+        String sortBy,
+        Integer contentsLength
+    );
+
+    CursorPage<QuestionSummaryResponseDTO> findQuestionsByManagerWithCursor(
+        PageCursor cursor,
+        int size,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        Long questionId,
+        String customerName,
+        Boolean isActivated,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long managerId,
+        String sortBy,
+        Integer contentsLength
+    );
+
+    CursorPage<QuestionSummaryResponseDTO> findQuestionsByCustomerWithCursor(
+        PageCursor cursor,
+        int size,
+        Long userId,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        Long questionId,
+        LocalDate startDate,
+        LocalDate endDate,
+        String sortBy,
+        Integer contentsLength
     );
 
     List<QuestionSummaryResponseDTO> findQuestionsBySearch(
-            String sortBy,
-            QuestionStatus status,
-            QuestionType type,
-            String title,
-            String customerName,
-            LocalDate startDate,
-            LocalDate endDate
+        Pageable pageable,
+        String sortBy,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        String keyword,
+        String customerName,
+        LocalDate startDate,
+        LocalDate endDate
+    );
+
+    CursorPage<QuestionSummaryResponseDTO> findQuestionsBySearchWithCursor(
+        PageCursor cursor,
+        int size,
+        String sortBy,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        String keyword,
+        String customerName,
+        LocalDate startDate,
+        LocalDate endDate
+    );
+
+    List<MobileQuestionSummaryResponseDTO> findActiveQuestionFeed(Pageable pageable);
+
+    Stream<QuestionSummaryRow> streamQuestionsByManager(
+        int fetchSize,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        String keyword,
+        Long questionId,
+        String customerName,
+        Boolean isActivated,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long managerId,
+        String sortBy
     );
 }
@@ -4,28 +4,38 @@ import static com.pobluesky.voc.answer.entity.QAnswer.answer;
 import static com.pobluesky.voc.question.entity.QQuestion.question;
 
 import com.pobluesky.voc.feign.Customer;
-import com.pobluesky.voc.feign.Manager;
-import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.feign.UserProfileReader;
+import com.pobluesky.voc.global.cache.QueryCountCache;
 import com.pobluesky.voc.global.error.CommonException;
 import com.pobluesky.voc.global.error.ErrorCode;
+import com.pobluesky.voc.global.util.KeysetCondition;
+import com.pobluesky.voc.global.util.PageCursor;
+import com.pobluesky.voc.global.util.model.CursorPage;
+import com.pobluesky.voc.question.dto.response.MobileQuestionSummaryResponseDTO;
 import com.pobluesky.voc.question.dto.response.QuestionSummaryResponseDTO;
-import com.pobluesky.voc.question.entity.Question;
 import com.pobluesky.voc.question.entity.QuestionStatus;
 import com.pobluesky.voc.question.entity.QuestionType;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.DateTemplate;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
@@ -36,7 +46,9 @@ public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
-    private final UserClient userClient;
+    private final UserProfileReader userProfileReader;
+
+    private final QueryCountCache queryCountCache;
 
     @Override
     public Page<QuestionSummaryResponseDTO> findQuestionsByManager(
@@ -44,85 +56,63 @@ public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
         QuestionStatus status,
         QuestionType type,
         String title,
+        String keyword,
         Long questionId,
         String customerName,
         Boolean isActivated,
         LocalDate startDate,
         LocalDate endDate,
         Long managerId,
-        String sortBy
+        String sortBy,
+        Integer contentsLength
     ) {
-        // 1. Question 목록 조회
-        List<Question> questions = queryFactory
-            .selectFrom(question)
+        // 1. 요약 컬럼만 프로젝션으로 조회 (customerName 필터도 SQL 조건으로 처리)
+        List<QuestionSummaryRow> questions = queryFactory
+            .select(summaryProjection(contentsLength))
+            .from(question)
             .leftJoin(question.answer, answer)
             .where(
                 statusEq(status),
                 typeEq(type),
                 titleContains(title),
+                keywordContains(keyword),
                 questionIdEq(questionId),
-                createdDateBetween(startDate, endDate),
+                customerNameContains(customerName),
                 isActivatedEq(isActivated),
                 managerIdEq(managerId),
                 createdDateBetween(startDate, endDate)
             )
-            .orderBy(getOrderSpecifier(sortBy))
+            .orderBy(getOrderSpecifier(sortBy, keyword))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
 
-        // 2. 조회된 Question 목록을 처리하며 필요한 Customer, Manager 정보를 Feign 클라이언트를 통해 가져옴
-        List<QuestionSummaryResponseDTO> content = questions.stream()
-            .map(q -> {
-                // Feign 클라이언트를 통해 Customer 정보 가져오기
-                Customer customer = null;
-                if (q.getUserId() != null) {
-                    try {
-                        customer = userClient.getCustomerByIdWithoutToken(q.getUserId()).getData();
-                    } catch (Exception e) {
-                        // 예외 처리 로직 (예: 로그 남기기)
-                    }
-                }
-
-                // Feign 클라이언트를 통해 Manager 정보 가져오기
-                Manager manager = null;
-                if (q.getAnswer() != null && q.getAnswer().getManagerId() != null) {
-                    try {
-                        manager = userClient.getManagerByIdWithoutToken(q.getAnswer().getManagerId()).getData();
-                    } catch (Exception e) {
-                        // 예외 처리 로직 (예: 로그 남기기)
-                    }
-                }
+        // 2. 고객사명이 아직 동기화되지 않은 행만 Feign 클라이언트를 통해 한 번에 가져옴
+        Map<Long, Customer> customers = fetchCustomers(questions);
 
-                // DTO로 변환
-                return QuestionSummaryResponseDTO.builder()
-                    .questionId(q.getQuestionId())
-                    .title(q.getTitle())
-                    .status(q.getStatus())
-                    .type(q.getType())
-                    .contents(q.getContents())
-                    .customerName(customer != null ? customer.getCustomerName() : null)
-                    .questionCreatedAt(q.getCreatedDate())
-                    .answerCreatedAt(q.getAnswer() != null ? q.getAnswer().getCreatedDate() : null)
-                    .managerId(manager != null ? manager.getUserId() : null)
-                    .isActivated(q.getIsActivated())
-                    .build();
-            })
-            // 3. customerName 필터링 추가
-            .filter(dto -> {
-                // customerName이 입력된 경우 필터링
-                if (StringUtils.hasText(customerName)) {
-                    return dto.customerName() != null && dto.customerName().contains(customerName);
-                }
-                return true; // customerName이 없는 경우 모든 데이터 유지
-            })
+        List<QuestionSummaryResponseDTO> content = questions.stream()
+            .map(q -> toSummaryResponseDTO(q, customers.get(q.userId())))
             .collect(Collectors.toList());
 
-        // 4. customerName 필터링 후 데이터의 크기를 기준으로 페이지 계산
-        int totalFiltered = content.size();
+        // 3. 동일한 조건의 count 쿼리로 전체 건수 계산 (마지막 페이지면 count 생략, 필터 조건별 단기 캐시)
+        JPAQuery<Long> countQuery = getCountQueryForManager(
+            status,
+            type,
+            title,
+            keyword,
+            questionId,
+            customerName,
+            isActivated,
+            managerId,
+            startDate,
+            endDate
+        );
 
-        // 5. 페이징된 QuestionSummaryResponseDTO 리스트 반환
-        return new PageImpl<>(content, pageable, totalFiltered);
+        return PageableExecutionUtils.getPage(content, pageable, () -> queryCountCache.getCount(
+            "questionsByManager",
+            countQuery::fetchOne,
+            status, type, title, keyword, questionId, customerName, isActivated, managerId, startDate, endDate
+        ));
     }
 
     @Override
@@ -135,11 +125,13 @@ public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
         Long questionId,
         LocalDate startDate,
         LocalDate endDate,
-        String sortBy
+        String sortBy,
+        Integer contentsLength
     ) {
-        // 1. Question 목록 조회
-        List<Question> questions = queryFactory
-            .selectFrom(question)
+        // 1. 요약 컬럼만 프로젝션으로 조회
+        List<QuestionSummaryRow> questions = queryFactory
+            .select(summaryProjection(contentsLength))
+            .from(question)
             .leftJoin(question.answer, answer)
             .where(
                 question.userId.eq(userId), // userId 조건 추가
@@ -155,157 +147,384 @@ public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
             .limit(pageable.getPageSize())
             .fetch();
 
-        // 2. 조회된 Question 목록을 처리하며 필요한 Customer 정보를 Feign 클라이언트를 통해 가져옴
+        // 2. 조회된 Question 목록의 Customer 정보를 Feign 클라이언트를 통해 한 번에 가져옴
+        Map<Long, Customer> customers = fetchCustomers(questions);
+
         List<QuestionSummaryResponseDTO> content = questions.stream()
-            .map(q -> {
-                // Feign 클라이언트를 통해 Customer 정보 가져오기
-                Customer customer = null;
-                if (q.getUserId() != null) {
-                    try {
-                        customer = userClient.getCustomerByIdWithoutToken(q.getUserId()).getData();
-                    } catch (Exception e) {
-                        // 예외 처리 로직 (예: 로그 남기기)
-                    }
-                }
+            .map(q -> toSummaryResponseDTO(q, customers.get(q.userId())))
+            .collect(Collectors.toList());
 
-                // Feign 클라이언트를 통해 Manager 정보 가져오기
-                Manager manager = null;
-                if (q.getAnswer() != null && q.getAnswer().getManagerId() != null) {
-                    try {
-                        manager = userClient.getManagerByIdWithoutToken(q.getAnswer().getManagerId()).getData();
-                    } catch (Exception e) {
-                        // 예외 처리 로직 (예: 로그 남기기)
-                    }
-                }
+        // 3. 동일한 조건의 count 쿼리로 전체 건수 계산 (마지막 페이지면 count 생략, 필터 조건별 단기 캐시)
+        JPAQuery<Long> countQuery = getCountQueryForCustomer(
+            userId,
+            status,
+            type,
+            title,
+            questionId,
+            startDate,
+            endDate
+        );
 
-                // DTO로 변환
-                return QuestionSummaryResponseDTO.builder()
-                    .questionId(q.getQuestionId())
-                    .title(q.getTitle())
-                    .status(q.getStatus())
-                    .type(q.getType())
-                    .contents(q.getContents())
-                    .customerName(customer != null ? customer.getCustomerName() : null)
-                    .questionCreatedAt(q.getCreatedDate())
-                    .answerCreatedAt(q.getAnswer() != null ? q.getAnswer().getCreatedDate() : null)
-                    .managerId(manager != null ? manager.getUserId() : null)
-                    .isActivated(q.getIsActivated())
-                    .build();
-            })
-            .collect(Collectors.toList());
+        return PageableExecutionUtils.getPage(content, pageable, () -> queryCountCache.getCount(
+            "questionsByCustomer",
+            countQuery::fetchOne,
+            userId, status, type, title, questionId, startDate, endDate
+        ));
+    }
 
-        // 3. 페이징된 QuestionSummaryResponseDTO 리스트 반환
-        return new PageImpl<>(content, pageable, content.size());
+    @Override
+    public CursorPage<QuestionSummaryResponseDTO> findQuestionsByManagerWithCursor(
+        PageCursor cursor,
+        int size,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        Long questionId,
+        String customerName,
+        Boolean isActivated,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long managerId,
+        String sortBy,
+        Integer contentsLength
+    ) {
+        // 1. 마지막으로 내려준 행 이후부터 size + 1건 조회 (offset 없이 인덱스 탐색)
+        List<QuestionSummaryRow> questions = queryFactory
+            .select(summaryProjection(contentsLength))
+            .from(question)
+            .leftJoin(question.answer, answer)
+            .where(
+                statusEq(status),
+                typeEq(type),
+                titleContains(title),
+                questionIdEq(questionId),
+                customerNameContains(customerName),
+                isActivatedEq(isActivated),
+                managerIdEq(managerId),
+                createdDateBetween(startDate, endDate),
+                cursorCondition(cursor, sortBy)
+            )
+            .orderBy(getOrderSpecifier(sortBy))
+            .limit(size + 1L)
+            .fetch();
+
+        // 2. DTO 변환 및 다음 커서 생성
+        return toCursorPage(questions, size, sortBy);
+    }
+
+    @Override
+    public CursorPage<QuestionSummaryResponseDTO> findQuestionsByCustomerWithCursor(
+        PageCursor cursor,
+        int size,
+        Long userId,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        Long questionId,
+        LocalDate startDate,
+        LocalDate endDate,
+        String sortBy,
+        Integer contentsLength
+    ) {
+        // 1. 마지막으로 내려준 행 이후부터 size + 1건 조회 (offset 없이 인덱스 탐색)
+        List<QuestionSummaryRow> questions = queryFactory
+            .select(summaryProjection(contentsLength))
+            .from(question)
+            .leftJoin(question.answer, answer)
+            .where(
+                question.userId.eq(userId),
+                statusEq(status),
+                typeEq(type),
+                titleContains(title),
+                questionIdEq(questionId),
+                isActivatedEq(true),
+                createdDateBetween(startDate, endDate),
+                cursorCondition(cursor, sortBy)
+            )
+            .orderBy(getOrderSpecifier(sortBy))
+            .limit(size + 1L)
+            .fetch();
+
+        // 2. DTO 변환 및 다음 커서 생성
+        return toCursorPage(questions, size, sortBy);
     }
 
     @Override
     public List<QuestionSummaryResponseDTO> findQuestionsBySearch(
+        Pageable pageable,
         String sortBy,
         QuestionStatus status,
         QuestionType type,
         String title,
+        String keyword,
         String customerName,
         LocalDate startDate,
         LocalDate endDate
     ) {
-        // 1. 필요한 필드만 가져오기 (customerId와 managerId만 가져옴)
-        List<Question> questions = queryFactory
-            .selectFrom(question)
+        // 1. 요약 컬럼만 프로젝션으로 페이지 크기만큼 조회
+        List<QuestionSummaryRow> questions = queryFactory
+            .select(summaryProjection(null))
+            .from(question)
             .leftJoin(question.answer, answer)
             .where(
                 statusEq(status),
                 typeEq(type),
                 titleContains(title),
+                keywordContains(keyword),
+                customerNameContains(customerName),
                 createdDateBetween(startDate, endDate)
             )
+            .orderBy(getOrderSpecifier(sortBy, keyword))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        // 2. 고객사명이 아직 동기화되지 않은 행만 FeignClient를 통해 한 번에 가져오기
+        Map<Long, Customer> customers = fetchCustomers(questions);
+
+        return questions.stream()
+            .map(q -> toSummaryResponseDTO(q, customers.get(q.userId())))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public CursorPage<QuestionSummaryResponseDTO> findQuestionsBySearchWithCursor(
+        PageCursor cursor,
+        int size,
+        String sortBy,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        String keyword,
+        String customerName,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        // 1. 마지막으로 내려준 행 이후부터 size + 1건 조회 (offset 없이 인덱스 탐색)
+        List<QuestionSummaryRow> questions = queryFactory
+            .select(summaryProjection(null))
+            .from(question)
+            .leftJoin(question.answer, answer)
+            .where(
+                statusEq(status),
+                typeEq(type),
+                titleContains(title),
+                keywordContains(keyword),
+                customerNameContains(customerName),
+                createdDateBetween(startDate, endDate),
+                cursorCondition(cursor, sortBy)
+            )
             .orderBy(getOrderSpecifier(sortBy))
+            .limit(size + 1L)
             .fetch();
 
-        // 2. FeignClient를 통해 Customer 및 Manager 정보 가져오기
-        List<QuestionSummaryResponseDTO> content = questions.stream()
-            .map(q -> {
-                // FeignClient를 통해 Customer 정보 가져오기
-                Customer customer = null;
-                if (q.getUserId() != null) {
-                    try {
-                        customer = userClient.getCustomerByIdWithoutToken(q.getUserId()).getData();
-                    } catch (Exception e) {
-                        // 예외 처리 로직 (예: 로그 남기기)
-                    }
-                }
+        // 2. DTO 변환 및 다음 커서 생성
+        return toCursorPage(questions, size, sortBy);
+    }
 
-                // FeignClient를 통해 Manager 정보 가져오기
-                Manager manager = null;
-                if (q.getAnswer() != null && q.getAnswer().getManagerId() != null) {
-                    try {
-                        manager = userClient.getManagerByIdWithoutToken(q.getAnswer().getManagerId()).getData();
-                    } catch (Exception e) {
-                        // 예외 처리 로직 (예: 로그 남기기)
-                    }
-                }
+    @Override
+    public List<MobileQuestionSummaryResponseDTO> findActiveQuestionFeed(Pageable pageable) {
+        // 1. 활성 질문을 최신순으로 페이지 크기만큼 프로젝션 조회 (문의 번호는 행에 있는 값 사용)
+        List<MobileQuestionRow> questions = queryFactory
+            .select(Projections.constructor(
+                MobileQuestionRow.class,
+                question.questionId,
+                question.inquiryId,
+                question.userId,
+                question.title,
+                question.status,
+                question.type,
+                question.contents
+            ))
+            .from(question)
+            .where(isActivatedEq(true))
+            .orderBy(getOrderSpecifier("LATEST"))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        // 2. 페이지 내 고객사 정보를 한 번에 조회
+        Set<Long> userIds = questions.stream()
+            .map(MobileQuestionRow::userId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+
+        Map<Long, Customer> customers = userProfileReader.findCustomers(userIds);
 
-                // DTO로 변환하여 리스트에 추가
-                return QuestionSummaryResponseDTO.builder()
-                    .questionId(q.getQuestionId())
-                    .title(q.getTitle())
-                    .status(q.getStatus())
-                    .type(q.getType())
-                    .contents(q.getContents())
-                    .customerName(customer != null ? customer.getCustomerName() : null)
-                    .questionCreatedAt(q.getCreatedDate())
-                    .answerCreatedAt(q.getAnswer() != null ? q.getAnswer().getCreatedDate() : null)
-                    .managerId(manager != null ? manager.getUserId() : null)
-                    .isActivated(q.getIsActivated())
+        return questions.stream()
+            .map(q -> {
+                Customer customer = customers.get(q.userId());
+
+                return MobileQuestionSummaryResponseDTO.builder()
+                    .inquiryId(Optional.ofNullable(q.inquiryId()))
+                    .questionId(q.questionId())
+                    .customer(customer != null ? customer.getName() : null)
+                    .title(q.title())
+                    .status(q.status() != null ? q.status().getStatus() : null)
+                    .type(q.type() != null ? q.type().getType() : null)
+                    .contents(q.contents())
                     .build();
             })
-            // 3. customerName 필터링
-            .filter(dto -> {
-                if (StringUtils.hasText(customerName)) {
-                    return dto.customerName() != null && dto.customerName().contains(customerName);
-                }
-                return true; // 필터링 조건이 없으면 모든 항목 유지
-            })
             .collect(Collectors.toList());
+    }
 
-        return content;
+    // 내보내기용 전체 조회 (fetch size 단위로 나눠 읽는 커서, 호출한 쪽에서 트랜잭션 안에서 닫아야 한다)
+    @Override
+    public Stream<QuestionSummaryRow> streamQuestionsByManager(
+        int fetchSize,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        String keyword,
+        Long questionId,
+        String customerName,
+        Boolean isActivated,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long managerId,
+        String sortBy
+    ) {
+        return queryFactory
+            .select(summaryProjection(null))
+            .from(question)
+            .leftJoin(question.answer, answer)
+            .where(
+                statusEq(status),
+                typeEq(type),
+                titleContains(title),
+                keywordContains(keyword),
+                questionIdEq(questionId),
+                customerNameContains(customerName),
+                isActivatedEq(isActivated),
+                managerIdEq(managerId),
+                createdDateBetween(startDate, endDate)
+            )
+            .orderBy(getOrderSpecifier(sortBy, keyword))
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .stream();
+    }
+
+    // 고객사명이 비어 있는 행의 고객사 ID를 중복 없이 모아 한 번의 호출로 조회
+    private Map<Long, Customer> fetchCustomers(List<QuestionSummaryRow> questions) {
+        Set<Long> userIds = questions.stream()
+            .filter(q -> !StringUtils.hasText(q.customerName()))
+            .map(QuestionSummaryRow::userId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+
+        return userProfileReader.findCustomers(userIds);
     }
 
-    private JPAQuery<Question> getCountQueryForManager(
+    // size + 1번째 행이 있으면 다음 페이지가 있는 것으로 보고, size번째 행의 정렬 키로 커서 생성
+    private CursorPage<QuestionSummaryResponseDTO> toCursorPage(
+        List<QuestionSummaryRow> questions,
+        int size,
+        String sortBy
+    ) {
+        boolean hasNext = questions.size() > size;
+        List<QuestionSummaryRow> rows = hasNext ? questions.subList(0, size) : questions;
+
+        Map<Long, Customer> customers = fetchCustomers(rows);
+
+        List<QuestionSummaryResponseDTO> content = rows.stream()
+            .map(q -> toSummaryResponseDTO(q, customers.get(q.userId())))
+            .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            QuestionSummaryRow last = rows.get(rows.size() - 1);
+            nextCursor = new PageCursor(
+                sortBy,
+                last.createdDate(),
+                last.questionId(),
+                last.type() != null ? last.type().name() : null
+            ).encode();
+        }
+
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    // 요약 응답에 필요한 컬럼만 조회 (answer 는 같은 쿼리의 left join 으로 작성일/담당자만 가져옴)
+    // contentsLength 가 주어지면 본문은 앞부분만 잘라서 조회
+    private ConstructorExpression<QuestionSummaryRow> summaryProjection(Integer contentsLength) {
+        StringExpression contents = contentsLength != null && contentsLength > 0
+            ? question.contents.substring(0, contentsLength)
+            : question.contents;
+
+        return Projections.constructor(
+            QuestionSummaryRow.class,
+            question.questionId,
+            question.userId,
+            question.title,
+            question.status,
+            question.type,
+            contents,
+            question.customerName,
+            question.createdDate,
+            answer.createdDate,
+            answer.managerId,
+            question.isActivated
+        );
+    }
+
+    private QuestionSummaryResponseDTO toSummaryResponseDTO(QuestionSummaryRow q, Customer customer) {
+        return QuestionSummaryResponseDTO.builder()
+            .questionId(q.questionId())
+            .title(q.title())
+            .status(q.status())
+            .type(q.type())
+            .contents(q.contents())
+            .customerName(StringUtils.hasText(q.customerName())
+                ? q.customerName()
+                : customer != null ? customer.getCustomerName() : null)
+            .questionCreatedAt(q.createdDate())
+            .answerCreatedAt(q.answerCreatedDate())
+            .managerId(q.managerId())
+            .isActivated(q.isActivated())
+            .build();
+    }
+
+    private JPAQuery<Long> getCountQueryForManager(
         QuestionStatus status,
         QuestionType type,
         String title,
+        String keyword,
         Long questionId,
+        String customerName,
         Boolean isActivated,
         Long managerId,
         LocalDate startDate,
         LocalDate endDate
     ) {
-        // customerNameContains 제거, customerName 필터링 제외
         return queryFactory
-            .selectFrom(question)
+            .select(question.count())
+            .from(question)
+            .leftJoin(question.answer, answer)
             .where(
                 statusEq(status),
                 typeEq(type),
                 titleContains(title),
+                keywordContains(keyword),
                 questionIdEq(questionId),
+                customerNameContains(customerName),
                 isActivatedEq(isActivated),
                 managerIdEq(managerId),
                 createdDateBetween(startDate, endDate)
             );
     }
 
-    private JPAQuery<Question> getCountQueryForCustomer(
+    private JPAQuery<Long> getCountQueryForCustomer(
         Long userId,
         QuestionStatus status,
         QuestionType type,
         String title,
         Long questionId,
-        Long managerId,
         LocalDate startDate,
         LocalDate endDate
     ) {
         return queryFactory
-            .selectFrom(question)
+            .select(question.count())
+            .from(question)
             .where(
                 question.userId.eq(userId),
                 statusEq(status),
@@ -313,11 +532,34 @@ public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
                 titleContains(title),
                 questionIdEq(questionId),
                 isActivatedEq(true),
-                managerIdEq(managerId),
                 createdDateBetween(startDate, endDate)
             );
     }
 
+    // RELEVANCE: 검색어와 제목의 trigram 유사도 순 (검색어가 없으면 최신순)
+    private OrderSpecifier<?>[] getOrderSpecifier(String sortBy, String keyword) {
+        if (!"RELEVANCE".equals(sortBy)) {
+            return getOrderSpecifier(sortBy);
+        }
+
+        if (!StringUtils.hasText(keyword)) {
+            return getOrderSpecifier("LATEST");
+        }
+
+        NumberExpression<Double> relevance = Expressions.numberTemplate(
+            Double.class,
+            "function('word_similarity', {0}, lower({1}))",
+            keyword.trim().toLowerCase(),
+            question.title
+        );
+
+        return new OrderSpecifier[]{
+            relevance.desc(),
+            question.createdDate.desc(),
+            question.questionId.desc()
+        };
+    }
+
     private OrderSpecifier<?>[] getOrderSpecifier(String sortBy) {
         switch (sortBy) {
             case "LATEST":
@@ -332,14 +574,51 @@ public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
                 };
             case "TYPE":
                 return new OrderSpecifier[]{
-                    question.type.asc(),
-                    question.createdDate.desc()
+                    question.type.asc().nullsLast(),
+                    question.createdDate.desc().nullsLast(),
+                    question.questionId.desc()
                 };
             default:
                 throw new CommonException(ErrorCode.INVALID_ORDER_CONDITION);
         }
     }
 
+    // getOrderSpecifier 와 같은 순서로 커서 다음 행부터 조회하는 조건
+    private BooleanExpression cursorCondition(PageCursor cursor, String sortBy) {
+        if (cursor == null) {
+            return null;
+        }
+
+        BooleanExpression before = KeysetCondition.descending(question.createdDate, question.questionId, cursor);
+
+        switch (sortBy) {
+            case "LATEST":
+                return before;
+            case "OLDEST":
+                return KeysetCondition.ascending(question.createdDate, question.questionId, cursor);
+            case "TYPE":
+                // 유형이 없는 행은 마지막 (nulls last)
+                if (cursor.type() == null) {
+                    return question.type.isNull().and(before);
+                }
+
+                QuestionType type = toQuestionType(cursor.type());
+                return question.type.gt(type)
+                    .or(question.type.isNull())
+                    .or(question.type.eq(type).and(before));
+            default:
+                throw new CommonException(ErrorCode.INVALID_ORDER_CONDITION);
+        }
+    }
+
+    private QuestionType toQuestionType(String type) {
+        try {
+            return QuestionType.valueOf(type);
+        } catch (RuntimeException e) {
+            throw new CommonException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
     private BooleanExpression statusEq(QuestionStatus status) {
         return status != null ? question.status.eq(status) : null;
     }
@@ -352,13 +631,25 @@ public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
         return StringUtils.hasText(title) ? question.title.contains(title) : null;
     }
 
+    // 제목 또는 본문 부분 일치 (lower(title), lower(contents) pg_trgm GIN 인덱스 사용)
+    private BooleanExpression keywordContains(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+
+        String lowerKeyword = keyword.trim().toLowerCase();
+
+        return question.title.lower().contains(lowerKeyword)
+            .or(question.contents.lower().contains(lowerKeyword));
+    }
+
     private BooleanExpression questionIdEq(Long questionId) {
         return questionId != null ? question.questionId.eq(questionId) : null;
     }
 
-//    private BooleanExpression customerNameContains(String customerName) {
-//        return StringUtils.hasText(customerName) ? customer.customerName.contains(customerName) : null;
-//    }
+    private BooleanExpression customerNameContains(String customerName) {
+        return StringUtils.hasText(customerName) ? question.customerName.contains(customerName) : null;
+    }
 
     private BooleanExpression isActivatedEq(Boolean isActivated) {
         return isActivated != null ? question.isActivated.eq(isActivated) : null;
@@ -368,23 +659,19 @@ public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
         return managerId != null ? answer.managerId.eq(managerId) : null;
     }
 
+    // 컬럼을 가공하지 않고 [startDate 00:00, endDate 다음날 00:00) 반개구간으로 비교 (created_date 인덱스 사용 가능)
     private BooleanExpression createdDateBetween(LocalDate startDate, LocalDate endDate) {
-        if (startDate == null && endDate == null) {
-            return null;
+        BooleanExpression from = startDate != null
+            ? question.createdDate.goe(startDate.atStartOfDay())
+            : null;
+        BooleanExpression to = endDate != null
+            ? question.createdDate.lt(endDate.plusDays(1).atStartOfDay())
+            : null;
+
+        if (from == null) {
+            return to;
         }
 
-        DateTemplate<LocalDate> dateTemplate = Expressions.dateTemplate(
-            LocalDate.class,
-            "CAST({0} AS DATE)",
-            question.createdDate
-        );
-
-        if (startDate != null && endDate != null) {
-            return dateTemplate.between(startDate, endDate);
-        } else if (startDate != null) {
-            return dateTemplate.goe(startDate);
-        } else {
-            return dateTemplate.loe(endDate);
-        }
+        return to != null ? from.and(to) : from;
     }
 }
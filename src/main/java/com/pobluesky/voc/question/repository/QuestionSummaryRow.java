@@ -0,0 +1,36 @@
+package com.pobluesky.voc.question.repository;
+
+import com.pobluesky.voc.question.entity.QuestionStatus;
+import com.pobluesky.voc.question.entity.QuestionType;
+import java.time.LocalDateTime;
+
+/**
+ * 질문 목록 조회용 프로젝션
+ * 요약 응답에 필요한 컬럼과 고객사명 보완용 userId만 조회한다.
+ */
+public record QuestionSummaryRow(
+
+    Long questionId,
+
+    Long userId,
+
+    String title,
+
+    QuestionStatus status,
+
+    QuestionType type,
+
+    String contents,
+
+    String customerName,
+
+    LocalDateTime createdDate,
+
+    LocalDateTime answerCreatedDate,
+
+    Long managerId,
+
+    Boolean isActivated
+
+) {
+}
@@ -0,0 +1,139 @@
+package com.pobluesky.voc.question.service;
+
+import com.pobluesky.voc.feign.CachingUserClient;
+import com.pobluesky.voc.feign.Customer;
+import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.global.redisson.DistributedLock;
+import com.pobluesky.voc.global.sync.SyncWatermarkService;
+import com.pobluesky.voc.question.repository.QuestionRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * question.customer_name 동기화
+ * 목록의 고객사명 필터를 SQL 조건으로 처리하기 위해 user 서비스의 고객사명을 반영한다.
+ * 마지막 성공 실행 이후 변경된 고객사만 가져와 해당 고객사의 질문만 갱신하며,
+ * 기준 시각이 없는 첫 실행에서만 질문 전체의 고객사를 한 번 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionCustomerNameSyncScheduler {
+
+    private static final String WATERMARK = "question-customer-name";
+
+    private final QuestionRepository questionRepository;
+
+    private final UserClient userClient;
+
+    private final CachingUserClient cachingUserClient;
+
+    private final QuestionListCacheEvictor questionListCacheEvictor;
+
+    private final SyncWatermarkService syncWatermarkService;
+
+    @Value("${question.customer-name-sync.batch-size}")
+    private int batchSize;
+
+    @Scheduled(
+        initialDelayString = "${question.customer-name-sync.initial-delay-ms}",
+        fixedDelayString = "${question.customer-name-sync.interval-ms}"
+    )
+    @DistributedLock(key = "'question-customer-name-sync'", leaseTime = 600L)
+    public void syncCustomerNames() {
+        LocalDateTime startedAt = LocalDateTime.now().withNano(0);
+        LocalDateTime since = syncWatermarkService.getSince(WATERMARK);
+
+        int updated = since != null ? syncChangedCustomers(since) : syncAllCustomers();
+
+        syncWatermarkService.advance(WATERMARK, startedAt);
+
+        log.info("Question customer name sync finished. since={}, updatedRows={}", since, updated);
+    }
+
+    // 변경된 고객사만 반영 (프로필 캐시도 함께 무효화)
+    private int syncChangedCustomers(LocalDateTime since) {
+        List<Customer> customers = userClient.getCustomersUpdatedSince(since).getData();
+        if (customers == null) {
+            return 0;
+        }
+
+        int updated = 0;
+        for (Customer customer : customers) {
+            if (customer == null || customer.getUserId() == null) {
+                continue;
+            }
+
+            cachingUserClient.evictCustomer(customer.getUserId());
+            updated += apply(customer.getUserId(), customer);
+        }
+
+        return updated;
+    }
+
+    // 첫 실행: 질문이 있는 고객사 전체를 batch 단위로 보정
+    private int syncAllCustomers() {
+        Pageable pageable = PageRequest.of(0, batchSize);
+        int updated = 0;
+
+        while (true) {
+            Slice<Long> userIds = questionRepository.findDistinctUserIds(pageable);
+
+            if (userIds.hasContent()) {
+                updated += syncBatch(userIds);
+            }
+
+            if (!userIds.hasNext()) {
+                break;
+            }
+
+            pageable = userIds.nextPageable();
+        }
+
+        return updated;
+    }
+
+    private int syncBatch(Slice<Long> userIds) {
+        Map<Long, Customer> customers;
+        try {
+            customers = userClient.getCustomersByIdsWithoutToken(userIds.getContent()).getData();
+        } catch (Exception e) {
+            log.warn("Question customer name sync skipped a batch. size={}", userIds.getNumberOfElements(), e);
+            return 0;
+        }
+
+        if (customers == null) {
+            return 0;
+        }
+
+        int updated = 0;
+        for (Map.Entry<Long, Customer> entry : customers.entrySet()) {
+            updated += apply(entry.getKey(), entry.getValue());
+        }
+
+        return updated;
+    }
+
+    private int apply(Long userId, Customer customer) {
+        if (customer == null || !StringUtils.hasText(customer.getCustomerName())) {
+            return 0;
+        }
+
+        int rows = questionRepository.updateCustomerName(userId, customer.getCustomerName());
+        if (rows > 0) {
+            questionListCacheEvictor.evictCustomer(userId);
+        }
+
+        return rows;
+    }
+}
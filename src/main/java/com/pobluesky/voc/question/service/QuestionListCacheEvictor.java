@@ -0,0 +1,44 @@
+package com.pobluesky.voc.question.service;
+
+import com.pobluesky.voc.global.cache.TenantCacheResolver;
+import com.pobluesky.voc.global.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 질문 목록 캐시 무효화
+ * 변경된 질문의 고객사 캐시와 담당자 목록 캐시만 커밋 이후에 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionListCacheEvictor {
+
+    public static final String CUSTOMER_CACHE = "questionsByCustomer";
+
+    public static final String MANAGER_CACHE = "questionsByManager";
+
+    private final CacheManager cacheManager;
+
+    // 고객사 질문이 바뀌면 해당 고객사 목록과 담당자 목록이 함께 바뀐다
+    public void evictCustomer(Long customerId) {
+        AfterCommit.run(() -> {
+            invalidate(TenantCacheResolver.tenantCacheName(CUSTOMER_CACHE, customerId));
+            invalidate(MANAGER_CACHE);
+        });
+    }
+
+    private void invalidate(String cacheName) {
+        try {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.invalidate();
+            }
+        } catch (Exception e) {
+            log.warn("Question list cache evict failed. cache={}", cacheName, e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.pobluesky.voc.question.service;
+
+import com.pobluesky.voc.question.dto.response.QuestionSummaryResponseDTO;
+import com.pobluesky.voc.question.entity.QuestionStatus;
+import com.pobluesky.voc.question.entity.QuestionType;
+import com.pobluesky.voc.question.repository.QuestionRepository;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 질문 목록 캐시 조회
+ * 토큰/권한 검증은 호출하는 QuestionService에서 끝낸 뒤 호출한다. (캐시 hit 시에도 검증이 생략되지 않도록 분리)
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionListReader {
+
+    private final QuestionRepository questionRepository;
+
+    // 담당자 질문 목록
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = QuestionListCacheEvictor.MANAGER_CACHE, sync = true, key = "#page + '-' + #size + '-' + #sortBy + '-' + #status + '-' + #type + '-' + #title + '-' + #keyword + '-' + #questionId + '-' + #customerName + '-' + #isActivated + '-' + #managerId + '-' + #startDate + '-' + #endDate + '-' + #contentsLength")
+    public Page<QuestionSummaryResponseDTO> getQuestionsByManager(
+        int page,
+        int size,
+        String sortBy,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        String keyword,
+        Long questionId,
+        String customerName,
+        Boolean isActivated,
+        Long managerId,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer contentsLength) {
+
+        return questionRepository.findQuestionsByManager(
+            PageRequest.of(page, size),
+            status,
+            type,
+            title,
+            keyword,
+            questionId,
+            customerName,
+            isActivated,
+            startDate,
+            endDate,
+            managerId,
+            sortBy,
+            contentsLength);
+    }
+
+    // 고객사 질문 목록 (customerId는 검증된 값)
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = QuestionListCacheEvictor.CUSTOMER_CACHE, cacheResolver = "tenantCacheResolver", sync = true, key = "#customerId + '-' + #page + '-' + #size + '-' + #sortBy + '-' + #status + '-' + #type + '-' + #title + '-' + #questionId + '-' + #startDate + '-' + #endDate + '-' + #contentsLength")
+    public Page<QuestionSummaryResponseDTO> getQuestionsByCustomer(
+        Long customerId,
+        int page,
+        int size,
+        String sortBy,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        Long questionId,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer contentsLength) {
+
+        return questionRepository.findQuestionsByCustomer(
+            PageRequest.of(page, size),
+            customerId,
+            status,
+            type,
+            title,
+            questionId,
+            startDate,
+            endDate,
+            sortBy,
+            contentsLength);
+    }
+}
@@ -1,7 +1,10 @@
 package com.pobluesky.voc.question.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pobluesky.voc.collaboration.entity.Collaboration;
 import com.pobluesky.voc.collaboration.repository.CollaborationRepository;
+import com.pobluesky.voc.dashboard.service.DashboardCounterService;
 import com.pobluesky.voc.feign.Customer;
 import com.pobluesky.voc.feign.FileClient;
 import com.pobluesky.voc.feign.FileInfo;
@@ -9,8 +12,14 @@ import com.pobluesky.voc.feign.Inquiry;
 import com.pobluesky.voc.feign.InquiryClient;
 import com.pobluesky.voc.feign.Manager;
 import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.feign.UserProfileReader;
 import com.pobluesky.voc.global.error.CommonException;
 import com.pobluesky.voc.global.error.ErrorCode;
+import com.pobluesky.voc.global.security.UserTokenResolver;
+import com.pobluesky.voc.global.util.PageCursor;
+import com.pobluesky.voc.global.util.export.ExportFormat;
+import com.pobluesky.voc.global.util.export.ExportStreamer;
+import com.pobluesky.voc.global.util.model.CursorPage;
 import com.pobluesky.voc.question.dto.request.QuestionCreateRequestDTO;
 import com.pobluesky.voc.question.dto.request.QuestionUpdateRequestDTO;
 import com.pobluesky.voc.question.dto.response.MobileQuestionSummaryResponseDTO;
@@ -20,21 +29,27 @@ import com.pobluesky.voc.question.entity.Question;
 import com.pobluesky.voc.question.entity.QuestionStatus;
 import com.pobluesky.voc.question.entity.QuestionType;
 import com.pobluesky.voc.question.repository.QuestionRepository;
+import com.pobluesky.voc.question.repository.QuestionSummaryRow;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 
@@ -42,6 +57,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class QuestionService {
 
+    // 키셋 커서로 이어 읽을 수 있는 정렬 (RELEVANCE는 커서 조건이 없어 스트리밍 불가)
+    private static final Set<String> CURSOR_SORTS = Set.of("LATEST", "OLDEST", "TYPE");
+
+    private static final Set<String> SEARCH_SORTS = Set.of("LATEST", "OLDEST", "TYPE", "RELEVANCE");
+
     private final QuestionRepository questionRepository;
 
     private final CollaborationRepository collaborationRepository;
@@ -50,11 +70,26 @@ public class QuestionService {
 
     private final UserClient userClient;
 
+    private final UserProfileReader userProfileReader;
+
+    private final UserTokenResolver userTokenResolver;
+
     private final FileClient fileClient;
 
+    private final ObjectMapper objectMapper;
+
+    private final DashboardCounterService dashboardCounterService;
+
+    private final ExportStreamer exportStreamer;
+
+    private final QuestionListCacheEvictor questionListCacheEvictor;
+
+    private final QuestionListReader questionListReader;
+
+    @Value("${question.search.stream.chunk-size}")
+    private int searchStreamChunkSize;
+
     // 질문 전체 조회 (담당자) without paging
-    @Transactional(readOnly = true)
-    @Cacheable(value = "questionsCache", key = "#page + '-' + #size + '-' + #sortBy + '-' + #status + '-' + #type + '-' + #title + '-' + #questionId + '-' + #customerName + '-' + #isActivated + '-' + #managerId + '-' + #startDate + '-' + #endDate")
     public Page<QuestionSummaryResponseDTO> getQuestionsByManager(
         String token,
         int page,
@@ -63,34 +98,35 @@ public class QuestionService {
         QuestionStatus status,
         QuestionType type,
         String title,
+        String keyword,
         Long questionId,
         String customerName,
         Boolean isActivated,
         Long managerId,
         LocalDate startDate,
-        LocalDate endDate) {
+        LocalDate endDate,
+        Integer contentsLength) {
 
         validateManager(token);
 
-        Pageable pageable = PageRequest.of(page, size);
-
-        return questionRepository.findQuestionsByManager(
-            pageable,
+        return questionListReader.getQuestionsByManager(
+            page,
+            size,
+            sortBy,
             status,
             type,
             title,
+            keyword,
             questionId,
             customerName,
             isActivated,
+            managerId,
             startDate,
             endDate,
-            managerId,
-            sortBy);
+            contentsLength);
     }
 
     // 질문 전체 조회 (고객사)
-    @Transactional(readOnly = true)
-    @Cacheable(value = "questionsCache", key = "#page + '-' + #size + '-' + #sortBy + '-' + #status + '-' + #type + '-' + #title + '-' + #questionId + '-' + #startDate + '-' + #endDate")
     public Page<QuestionSummaryResponseDTO> getQuestionsByCustomer(
         String token,
         Long customerId,
@@ -102,16 +138,86 @@ public class QuestionService {
         String title,
         Long questionId,
         LocalDate startDate,
-        LocalDate endDate) {
+        LocalDate endDate,
+        Integer contentsLength) {
 
         Customer customer = validateCustomer(token);
 
         validateUserMatch(customer.getUserId(), customerId);
 
-        Pageable pageable = PageRequest.of(page, size);
+        return questionListReader.getQuestionsByCustomer(
+            customerId,
+            page,
+            size,
+            sortBy,
+            status,
+            type,
+            title,
+            questionId,
+            startDate,
+            endDate,
+            contentsLength);
+    }
 
-        return questionRepository.findQuestionsByCustomer(
-            pageable,
+    // 질문 전체 조회 (담당자) with cursor
+    @Transactional(readOnly = true)
+    public CursorPage<QuestionSummaryResponseDTO> getQuestionsByManagerWithCursor(
+        String token,
+        String cursor,
+        int size,
+        String sortBy,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        Long questionId,
+        String customerName,
+        Boolean isActivated,
+        Long managerId,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer contentsLength) {
+
+        validateManager(token);
+
+        return questionRepository.findQuestionsByManagerWithCursor(
+            PageCursor.decode(cursor, sortBy),
+            PageCursor.pageSize(size),
+            status,
+            type,
+            title,
+            questionId,
+            customerName,
+            isActivated,
+            startDate,
+            endDate,
+            managerId,
+            sortBy,
+            contentsLength);
+    }
+
+    // 질문 전체 조회 (고객사) with cursor
+    @Transactional(readOnly = true)
+    public CursorPage<QuestionSummaryResponseDTO> getQuestionsByCustomerWithCursor(
+        String token,
+        Long customerId,
+        String cursor,
+        int size,
+        String sortBy,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        Long questionId,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer contentsLength) {
+
+        Customer customer = validateCustomer(token);
+
+        validateUserMatch(customer.getUserId(), customerId);
+
+        return questionRepository.findQuestionsByCustomerWithCursor(
+            PageCursor.decode(cursor, sortBy),
+            PageCursor.pageSize(size),
             customerId,
             status,
             type,
@@ -119,7 +225,8 @@ public class QuestionService {
             questionId,
             startDate,
             endDate,
-            sortBy);
+            sortBy,
+            contentsLength);
     }
 
     // 질문 번호별 질문 조회 (담당자)
@@ -148,7 +255,6 @@ public class QuestionService {
 
     // 문의별 질문 작성 (고객사)
     @Transactional
-    @CacheEvict(value = "questionsCache", allEntries = true)
     public QuestionResponseDTO createInquiryQuestion(
         String token,
         Long customerId,
@@ -173,15 +279,22 @@ public class QuestionService {
             filePath = fileInfo.getStoredFilePath();
         }
 
-        Question question = dto.toQuestionEntity(inquiryId, customerId, fileName, filePath);
+        Question question = dto.toQuestionEntity(
+            inquiryId,
+            customerId,
+            customer.getCustomerName(),
+            fileName,
+            filePath
+        );
         Question savedQuestion = questionRepository.save(question);
+        dashboardCounterService.recordQuestionTransition(null, savedQuestion.getStatus());
+        questionListCacheEvictor.evictCustomer(customerId);
 
         return QuestionResponseDTO.from(savedQuestion,userClient,inquiryClient);
     }
 
     // 타입별 질문 작성 (고객사)
     @Transactional
-    @CacheEvict(value = "questionsCache", allEntries = true)
     public QuestionResponseDTO createGeneralQuestion(
         String token,
         Long customerId,
@@ -204,15 +317,22 @@ public class QuestionService {
             filePath = null;
         }
 
-        Question question = dto.toQuestionEntity(null, customerId, fileName, filePath);
+        Question question = dto.toQuestionEntity(
+            null,
+            customerId,
+            customer.getCustomerName(),
+            fileName,
+            filePath
+        );
         Question savedQuestion = questionRepository.save(question);
+        dashboardCounterService.recordQuestionTransition(null, savedQuestion.getStatus());
+        questionListCacheEvictor.evictCustomer(customerId);
 
         return QuestionResponseDTO.from(savedQuestion,userClient,inquiryClient);
     }
 
     // 고객사 문의별 질문 수정
     @Transactional
-    @CacheEvict(value = "questionsCache", allEntries = true)
     public QuestionResponseDTO updateInquiryQuestionById(
         String token,
         Long customerId,
@@ -249,6 +369,8 @@ public class QuestionService {
             filePath = fileInfo.getStoredFilePath();
         }
 
+        QuestionStatus previousStatus = question.getStatus();
+
         question.updateQuestion(
             inquiryId,
             dto.title(),
@@ -259,12 +381,14 @@ public class QuestionService {
             dto.status()
         );
 
+        dashboardCounterService.recordQuestionTransition(previousStatus, question.getStatus());
+        questionListCacheEvictor.evictCustomer(customerId);
+
         return QuestionResponseDTO.from(question,userClient,inquiryClient);
     }
 
     // 고객사 기타 질문 수정
     @Transactional
-    @CacheEvict(value = "questionsCache", allEntries = true)
     public QuestionResponseDTO updateGeneralQuestion(
         String token,
         Long customerId,
@@ -298,6 +422,8 @@ public class QuestionService {
             filePath = fileInfo.getStoredFilePath();
         }
 
+        QuestionStatus previousStatus = question.getStatus();
+
         question.updateQuestion(
             null,
             dto.title(),
@@ -308,12 +434,14 @@ public class QuestionService {
             dto.status()
         );
 
+        dashboardCounterService.recordQuestionTransition(previousStatus, question.getStatus());
+        questionListCacheEvictor.evictCustomer(customerId);
+
         return QuestionResponseDTO.from(question,userClient,inquiryClient);
     }
 
     // 질문 삭제 (고객사용)
     @Transactional
-    @CacheEvict(value = "questionsCache", allEntries = true)
     public void deleteQuestionById(
         String token,
         Long customerId,
@@ -332,11 +460,12 @@ public class QuestionService {
         validateQuestionCol(question);
 
         question.deleteQuestion();
+        dashboardCounterService.recordQuestionTransition(question.getStatus(), null);
+        questionListCacheEvictor.evictCustomer(question.getUserId());
     }
 
     // 질문 삭제 (담당자용)
     @Transactional
-    @CacheEvict(value = "questionsCache", allEntries = true)
     public void deleteQuestionById(
         String token,
         Long questionId
@@ -350,14 +479,14 @@ public class QuestionService {
         validateQuestionCol(question);
 
         question.deleteQuestion();
+        dashboardCounterService.recordQuestionTransition(question.getStatus(), null);
+        questionListCacheEvictor.evictCustomer(question.getUserId());
     }
 
-    // 모바일 전체 문의 조회
+    // 모바일 문의 피드 조회 (최신순 페이징)
     @Transactional(readOnly = true)
-    public List<MobileQuestionSummaryResponseDTO> getAllQuestions() {
-        return questionRepository.findActiveQuestions().stream()
-            .map(question -> MobileQuestionSummaryResponseDTO.from(question, userClient,inquiryClient)) // 람다식을 사용하여 userClient 전달
-            .collect(Collectors.toList());
+    public List<MobileQuestionSummaryResponseDTO> getQuestionFeed(int page, int size) {
+        return questionRepository.findActiveQuestionFeed(PageRequest.of(Math.max(page, 0), PageCursor.pageSize(size)));
     }
 
     // 모바일 상세 문의 조회
@@ -366,7 +495,7 @@ public class QuestionService {
         Question question = questionRepository.findActiveQuestionByQuestionId(questionId)
             .orElseThrow(() -> new CommonException(ErrorCode.QUESTION_NOT_FOUND));
 
-        return MobileQuestionSummaryResponseDTO.from(question,userClient,inquiryClient);
+        return MobileQuestionSummaryResponseDTO.from(question, userClient);
     }
 
     private Inquiry validateInquiry(Long inquiryId) {
@@ -382,8 +511,14 @@ public class QuestionService {
         return inquiry;
     }
 
+    private void validateSort(String sortBy, Set<String> supported) {
+        if (!supported.contains(sortBy)) {
+            throw new CommonException(ErrorCode.UNSUPPORTED_SORT);
+        }
+    }
+
     private Manager validateManager(String token) {
-        Long userId = userClient.parseToken(token);
+        Long userId = userTokenResolver.resolveUserId(token);
 
         Manager manager = userClient.getManagerByIdWithoutToken(userId).getData();
         if(manager == null){
@@ -394,7 +529,7 @@ public class QuestionService {
     }
 
     private Customer validateCustomer(String token) {
-        Long userId = userClient.parseToken(token);
+        Long userId = userTokenResolver.resolveUserId(token);
 
         Customer customer = userClient.getCustomerByIdWithoutToken(userId).getData();
         if(customer==null){
@@ -446,20 +581,26 @@ public class QuestionService {
     // 모바일 문의 답변 검색
     @Transactional(readOnly = true)
     public List<MobileQuestionSummaryResponseDTO> getQuestionsBySearch(
+            int page,
+            int size,
             String sortBy,
             QuestionStatus status,
             QuestionType type,
             String title,
+            String keyword,
             String customerName,
             LocalDate startDate,
             LocalDate endDate
     ) {
+        validateSort(sortBy, SEARCH_SORTS);
 
         List<QuestionSummaryResponseDTO> questions = questionRepository.findQuestionsBySearch(
+                PageRequest.of(Math.max(page, 0), PageCursor.pageSize(size)),
                 sortBy,
                 status,
                 type,
                 title,
+                keyword,
                 customerName,
                 startDate,
                 endDate
@@ -469,4 +610,153 @@ public class QuestionService {
                 .map(MobileQuestionSummaryResponseDTO::toMobileResponseDTO)
                 .toList();
     }
+
+    // 질문 목록 내보내기 (담당자) - 목록 조회와 같은 필터, 페이징 없이 전체
+    public StreamingResponseBody exportQuestionsByManager(
+        String token,
+        ExportFormat format,
+        String sortBy,
+        QuestionStatus status,
+        QuestionType type,
+        String title,
+        String keyword,
+        Long questionId,
+        String customerName,
+        Boolean isActivated,
+        Long managerId,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        validateManager(token);
+        // 본문을 쓰기 시작한 뒤에는 오류 응답을 줄 수 없으므로 스트림을 만들기 전에 검증한다
+        validateSort(sortBy, SEARCH_SORTS);
+
+        return exportStreamer.stream(
+            format,
+            "질문 목록",
+            List.of("질문 번호", "고객사", "제목", "유형", "상태", "내용", "등록일", "답변일", "답변 담당자", "활성 여부"),
+            fetchSize -> questionRepository.streamQuestionsByManager(
+                fetchSize,
+                status,
+                type,
+                title,
+                keyword,
+                questionId,
+                customerName,
+                isActivated,
+                startDate,
+                endDate,
+                managerId,
+                sortBy
+            ),
+            this::toExportRows
+        );
+    }
+
+    // chunk 단위로 고객사명(미동기화 행)과 답변 담당자명을 한 번씩 일괄 조회
+    private List<List<?>> toExportRows(List<QuestionSummaryRow> rows) {
+        Set<Long> customerIds = rows.stream()
+            .filter(row -> !StringUtils.hasText(row.customerName()))
+            .map(QuestionSummaryRow::userId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<Long> managerIds = rows.stream()
+            .map(QuestionSummaryRow::managerId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+
+        Map<Long, Customer> customers = userProfileReader.findCustomers(customerIds);
+        Map<Long, Manager> managers = userProfileReader.findManagers(managerIds);
+
+        return rows.stream()
+            .<List<?>>map(row -> {
+                Customer customer = customers.get(row.userId());
+                Manager manager = managers.get(row.managerId());
+
+                return Arrays.asList(
+                    row.questionId(),
+                    StringUtils.hasText(row.customerName())
+                        ? row.customerName()
+                        : customer != null ? customer.getCustomerName() : null,
+                    row.title(),
+                    row.type() != null ? row.type().getType() : null,
+                    row.status() != null ? row.status().getStatus() : null,
+                    row.contents(),
+                    row.createdDate(),
+                    row.answerCreatedDate(),
+                    manager != null ? manager.getName() : null,
+                    Boolean.TRUE.equals(row.isActivated()) ? "Y" : "N"
+                );
+            })
+            .toList();
+    }
+
+    // 모바일 문의 답변 검색 (스트리밍)
+    // 응답 헤더가 나간 뒤에는 오류 응답을 줄 수 없으므로 정렬 기준은 스트림을 만들기 전에 검증한다.
+    public StreamingResponseBody streamQuestionsBySearch(
+            String sortBy,
+            QuestionStatus status,
+            QuestionType type,
+            String title,
+            String keyword,
+            String customerName,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        validateSort(sortBy, CURSOR_SORTS);
+
+        return outputStream -> writeQuestionsBySearch(
+                outputStream,
+                sortBy,
+                status,
+                type,
+                title,
+                keyword,
+                customerName,
+                startDate,
+                endDate
+        );
+    }
+
+    // 키셋 페이징으로 chunk 단위 조회 후 바로 JSON 배열 요소로 기록하므로 결과 크기와 무관하게 메모리 사용량이 일정하다.
+    private void writeQuestionsBySearch(
+            OutputStream outputStream,
+            String sortBy,
+            QuestionStatus status,
+            QuestionType type,
+            String title,
+            String keyword,
+            String customerName,
+            LocalDate startDate,
+            LocalDate endDate
+    ) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+
+            PageCursor cursor = null;
+            do {
+                CursorPage<QuestionSummaryResponseDTO> chunk = questionRepository.findQuestionsBySearchWithCursor(
+                        cursor,
+                        searchStreamChunkSize,
+                        sortBy,
+                        status,
+                        type,
+                        title,
+                        keyword,
+                        customerName,
+                        startDate,
+                        endDate
+                );
+
+                for (QuestionSummaryResponseDTO question : chunk.content()) {
+                    generator.writeObject(MobileQuestionSummaryResponseDTO.toMobileResponseDTO(question));
+                }
+                generator.flush();
+
+                cursor = chunk.hasNext() ? PageCursor.decode(chunk.nextCursor(), sortBy) : null;
+            } while (cursor != null);
+
+            generator.writeEndArray();
+        }
+    }
 }
@@ -0,0 +1,46 @@
+-- 기존 운영 스키마 (엔티티 매핑 기준)
+-- 이미 테이블이 있는 DB는 baseline-on-migrate 로 이 버전을 건너뛴다.
+
+CREATE TABLE IF NOT EXISTS question (
+    question_id   BIGSERIAL PRIMARY KEY,
+    inquiry_id    BIGINT,
+    user_id       BIGINT,
+    title         VARCHAR(255),
+    contents      TEXT         NOT NULL,
+    file_name     TEXT,
+    file_path     TEXT,
+    status        VARCHAR(255),
+    type          VARCHAR(255),
+    is_activated  BOOLEAN,
+    created_date  TIMESTAMP(6),
+    modified_date TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS answer (
+    answer_id     BIGSERIAL PRIMARY KEY,
+    question_id   BIGINT UNIQUE REFERENCES question (question_id),
+    inquiry_id    BIGINT,
+    customer_id   BIGINT,
+    manager_id    BIGINT,
+    title         TEXT,
+    contents      TEXT,
+    file_name     TEXT,
+    file_path     TEXT,
+    is_activated  BOOLEAN,
+    created_date  TIMESTAMP(6),
+    modified_date TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS collaboration (
+    col_id          BIGSERIAL PRIMARY KEY,
+    question_id     BIGINT UNIQUE REFERENCES question (question_id),
+    col_request_id  BIGINT,
+    col_response_id BIGINT,
+    col_status      VARCHAR(255),
+    col_contents    TEXT NOT NULL,
+    col_reply       TEXT,
+    file_name       TEXT,
+    file_path       TEXT,
+    created_date    TIMESTAMP(6),
+    modified_date   TIMESTAMP(6)
+);
@@ -0,0 +1,23 @@
+-- 질문 목록 고객사명 필터용 비정규화 컬럼
+ALTER TABLE question ADD COLUMN IF NOT EXISTS customer_name VARCHAR(255);
+
+-- 고객사명 필터는 부분 일치 (customer_name LIKE '%x%')라 btree 대신 trigram GIN 인덱스 사용
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_question_customer_name_trgm
+    ON question USING gin (customer_name gin_trgm_ops);
+
+-- user 서비스 담당자 정보 로컬 읽기 모델
+CREATE TABLE IF NOT EXISTS manager_directory (
+    user_id       BIGINT PRIMARY KEY,
+    emp_no        VARCHAR(255),
+    name          VARCHAR(255),
+    department    VARCHAR(255),
+    role          VARCHAR(255),
+    synced_at     TIMESTAMP(6),
+    created_date  TIMESTAMP(6),
+    modified_date TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_manager_directory_name ON manager_directory (name);
+CREATE INDEX IF NOT EXISTS idx_manager_directory_department ON manager_directory (department);
@@ -0,0 +1,32 @@
+-- 목록 조회 필터/정렬 조합용 복합 인덱스
+-- 정렬 키 (created_date, id) 를 뒤에 두어 정렬 및 키셋 페이징에도 그대로 사용한다.
+
+-- question: 담당자 목록 (상태/유형/활성 여부 필터 + 작성일 정렬)
+CREATE INDEX IF NOT EXISTS idx_question_status_type_activated_created
+    ON question (status, type, is_activated, created_date DESC, question_id DESC);
+
+-- question: 필터 없는 최신순/오래된순 목록
+CREATE INDEX IF NOT EXISTS idx_question_created
+    ON question (created_date DESC, question_id DESC);
+
+-- question: 유형순 정렬
+CREATE INDEX IF NOT EXISTS idx_question_type_created
+    ON question (type, created_date DESC, question_id DESC);
+
+-- question: 고객사 목록
+CREATE INDEX IF NOT EXISTS idx_question_user_created
+    ON question (user_id, created_date DESC, question_id DESC);
+
+-- answer: 담당자별 답변 필터 및 question 조인
+CREATE INDEX IF NOT EXISTS idx_answer_manager_question
+    ON answer (manager_id, question_id);
+
+-- collaboration: 요청/응답 담당자 + 상태 필터
+CREATE INDEX IF NOT EXISTS idx_collaboration_request_status_created
+    ON collaboration (col_request_id, col_status, created_date DESC, col_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_collaboration_response_status_created
+    ON collaboration (col_response_id, col_status, created_date DESC, col_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_collaboration_created
+    ON collaboration (created_date DESC, col_id DESC);
@@ -0,0 +1,14 @@
+-- 질문 제목/본문 부분 일치 검색용 trigram 인덱스 (고객사명은 V2)
+-- LIKE '%검색어%' 도 GIN 인덱스로 처리되어 전체 스캔을 피한다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- titleContains (title LIKE ?)
+CREATE INDEX IF NOT EXISTS idx_question_title_trgm
+    ON question USING gin (title gin_trgm_ops);
+
+-- keyword 검색 (lower(title) LIKE ? OR lower(contents) LIKE ?), 유사도 정렬
+CREATE INDEX IF NOT EXISTS idx_question_title_lower_trgm
+    ON question USING gin (lower(title) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_question_contents_lower_trgm
+    ON question USING gin (lower(contents) gin_trgm_ops);
@@ -0,0 +1,37 @@
+-- 대시보드 월별 집계 (manager_id 0: 전체 합계)
+CREATE TABLE IF NOT EXISTS monthly_stat (
+    stat_type  VARCHAR(20) NOT NULL,
+    manager_id BIGINT      NOT NULL,
+    stat_year  INT         NOT NULL,
+    stat_month INT         NOT NULL,
+    stat_count BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (stat_type, manager_id, stat_year, stat_month)
+);
+
+-- 기존 데이터 초기 적재
+INSERT INTO monthly_stat (stat_type, manager_id, stat_year, stat_month, stat_count)
+SELECT 'ANSWER', 0, EXTRACT(YEAR FROM a.created_date), EXTRACT(MONTH FROM a.created_date), COUNT(*)
+FROM answer a
+WHERE a.created_date IS NOT NULL
+GROUP BY EXTRACT(YEAR FROM a.created_date), EXTRACT(MONTH FROM a.created_date)
+UNION ALL
+SELECT 'ANSWER', a.manager_id, EXTRACT(YEAR FROM a.created_date), EXTRACT(MONTH FROM a.created_date), COUNT(*)
+FROM answer a
+WHERE a.created_date IS NOT NULL AND a.manager_id IS NOT NULL
+GROUP BY a.manager_id, EXTRACT(YEAR FROM a.created_date), EXTRACT(MONTH FROM a.created_date);
+
+INSERT INTO monthly_stat (stat_type, manager_id, stat_year, stat_month, stat_count)
+SELECT 'COLLABORATION', 0, EXTRACT(YEAR FROM c.created_date), EXTRACT(MONTH FROM c.created_date), COUNT(*)
+FROM collaboration c
+WHERE c.created_date IS NOT NULL
+GROUP BY EXTRACT(YEAR FROM c.created_date), EXTRACT(MONTH FROM c.created_date)
+UNION ALL
+SELECT 'COLLABORATION', p.manager_id, EXTRACT(YEAR FROM p.created_date), EXTRACT(MONTH FROM p.created_date), COUNT(*)
+FROM (
+    SELECT c.col_id, c.col_request_id AS manager_id, c.created_date FROM collaboration c
+    WHERE c.col_request_id IS NOT NULL AND c.created_date IS NOT NULL
+    UNION
+    SELECT c.col_id, c.col_response_id AS manager_id, c.created_date FROM collaboration c
+    WHERE c.col_response_id IS NOT NULL AND c.created_date IS NOT NULL
+) p
+GROUP BY p.manager_id, EXTRACT(YEAR FROM p.created_date), EXTRACT(MONTH FROM p.created_date);
@@ -0,0 +1,14 @@
+-- 증분 동기화 작업별 기준 시각 (마지막 성공 실행의 시작 시각)
+CREATE TABLE IF NOT EXISTS sync_watermark (
+    name            VARCHAR(100) PRIMARY KEY,
+    last_started_at TIMESTAMP(6),
+    created_date    TIMESTAMP(6),
+    modified_date   TIMESTAMP(6)
+);
+
+-- 기존 담당자 디렉터리는 마지막 반영 시각을 기준으로 이어서 동기화
+INSERT INTO sync_watermark (name, last_started_at, created_date, modified_date)
+SELECT 'manager-directory', MAX(synced_at), NOW(), NOW()
+FROM manager_directory
+HAVING MAX(synced_at) IS NOT NULL
+ON CONFLICT (name) DO NOTHING;
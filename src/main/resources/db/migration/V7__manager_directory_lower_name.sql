@@ -0,0 +1,6 @@
+-- 협업 목록의 담당자명 필터는 대소문자 구분 없이 비교한다 (lower(name) = lower(?))
+-- 일반 btree (name) 인덱스로는 처리할 수 없으므로 식 인덱스로 바꾼다.
+DROP INDEX IF EXISTS idx_manager_directory_name;
+
+CREATE INDEX IF NOT EXISTS idx_manager_directory_lower_name
+    ON manager_directory (lower(name));
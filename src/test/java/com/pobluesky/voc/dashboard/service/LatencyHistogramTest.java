@@ -0,0 +1,58 @@
+package com.pobluesky.voc.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pobluesky.voc.dashboard.service.LatencyHistogram.Percentile;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    private static final int OVERFLOW_BUCKET = LatencyHistogram.BUCKET_COUNT - 1;
+
+    @Test
+    @DisplayName("소요 시간은 상한 미만인 첫 구간에 들어가고, 마지막 경계 이상은 마지막 구간에 들어간다")
+    void bucketIndex() {
+        assertThat(LatencyHistogram.bucketIndex(Duration.ofMinutes(-3))).isZero();
+        assertThat(LatencyHistogram.bucketIndex(Duration.ofMinutes(4))).isZero();
+        assertThat(LatencyHistogram.bucketIndex(Duration.ofMinutes(5))).isEqualTo(1);
+        assertThat(LatencyHistogram.bucketIndex(Duration.ofDays(29))).isEqualTo(OVERFLOW_BUCKET - 1);
+        assertThat(LatencyHistogram.bucketIndex(Duration.ofDays(30))).isEqualTo(OVERFLOW_BUCKET);
+    }
+
+    @Test
+    @DisplayName("건수가 없으면 분위수는 null 이다")
+    void percentileWithoutCounts() {
+        assertThat(LatencyHistogram.percentile(new long[LatencyHistogram.BUCKET_COUNT], 0.5)).isNull();
+    }
+
+    @Test
+    @DisplayName("분위수는 해당 순위가 속한 구간의 상한이다")
+    void percentile() {
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        counts[0] = 50;
+        counts[3] = 40;
+        counts[5] = 10;
+
+        assertThat(LatencyHistogram.percentile(counts, 0.50)).isEqualTo(new Percentile(5, false));
+        assertThat(LatencyHistogram.percentile(counts, 0.90)).isEqualTo(new Percentile(30, false));
+        assertThat(LatencyHistogram.percentile(counts, 0.99)).isEqualTo(new Percentile(120, false));
+    }
+
+    @Test
+    @DisplayName("마지막 구간에 속한 분위수는 마지막 경계값을 하한으로 하는 open-ended 값이다")
+    void percentileInOverflowBucket() {
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        counts[0] = 90;
+        counts[OVERFLOW_BUCKET] = 10;
+
+        Percentile p50 = LatencyHistogram.percentile(counts, 0.50);
+        Percentile p99 = LatencyHistogram.percentile(counts, 0.99);
+
+        assertThat(p50).isEqualTo(new Percentile(5, false));
+        assertThat(p99.openEnded()).isTrue();
+        assertThat(p99.minutes()).isEqualTo(Duration.ofDays(30).toMinutes());
+        assertThat(p99).hasToString(">=43200");
+    }
+}
@@ -0,0 +1,110 @@
+package com.pobluesky.voc.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache.ValueRetrievalException;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class GenerationalCacheTest {
+
+    private static final String GENERATION_KEY = "cache:generation:questionsByManager";
+
+    private final ConcurrentMapCache delegate = new ConcurrentMapCache("questionsByManager");
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private GenerationalCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(GENERATION_KEY)).willAnswer(invocation -> String.valueOf(generation.get()));
+        given(valueOperations.increment(GENERATION_KEY)).willAnswer(invocation -> generation.incrementAndGet());
+
+        cache = new GenerationalCache(delegate, stringRedisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("전체 무효화는 세대 번호만 올리고, 이전 세대 항목은 더 이상 조회되지 않는다")
+    void clearBumpsGeneration() {
+        cache.put("page:0", "old");
+        assertThat(cache.get("page:0").get()).isEqualTo("old");
+
+        cache.clear();
+
+        assertThat(generation).hasValue(1);
+        assertThat(cache.get("page:0")).isNull();
+        // 이전 세대 항목은 지우지 않고 TTL로 만료되도록 둔다
+        assertThat(delegate.get("0:page:0").get()).isEqualTo("old");
+
+        cache.put("page:0", "new");
+        assertThat(delegate.get("1:page:0").get()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 하나의 로딩 결과를 공유한다")
+    void singleFlight() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> first = executor.submit(() -> cache.get("page:0", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "loaded";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> second = executor.submit(() -> cache.get("page:0", () -> {
+            loads.incrementAndGet();
+            return "duplicate";
+        }));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        assertThat(loads).hasValue(1);
+        assertThat(delegate.get("0:page:0").get()).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("로딩이 실패하면 예외를 전달하고 결과를 저장하지 않는다")
+    void loaderFailure() {
+        assertThatThrownBy(() -> cache.get("page:0", () -> {
+            throw new IllegalStateException("count failed");
+        }))
+            .isInstanceOf(ValueRetrievalException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("page:0")).isNull();
+        assertThat(cache.get("page:0", () -> "retried")).isEqualTo("retried");
+    }
+}
@@ -0,0 +1,99 @@
+package com.pobluesky.voc.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pobluesky.voc.question.dto.response.QuestionSummaryResponseDTO;
+import com.pobluesky.voc.question.entity.QuestionStatus;
+import com.pobluesky.voc.question.entity.QuestionType;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+class JacksonCacheSerializerTest {
+
+    @Test
+    @DisplayName("Smile 값은 헤더로 구분하고, 헤더가 없는 값은 모두 JSON 으로 본다")
+    void acceptsByHeader() {
+        byte[] smile = CacheValueFormat.SMILE.serializer().serialize("value");
+
+        assertThat(CacheValueFormat.SMILE.accepts(smile)).isTrue();
+        assertThat(CacheValueFormat.JSON.accepts(smile)).isFalse();
+
+        for (String json : List.of("{\"a\":1}", "[1,2]", "\"value\"", "42", "true")) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+            assertThat(CacheValueFormat.JSON.accepts(bytes)).as(json).isTrue();
+            assertThat(CacheValueFormat.SMILE.accepts(bytes)).as(json).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 형식으로 저장된 값은 캐시 미스(null)로 읽는다")
+    void otherFormatIsMiss() {
+        RedisSerializer<Object> json = CacheValueFormat.JSON.serializer();
+        RedisSerializer<Object> smile = CacheValueFormat.SMILE.serializer();
+
+        assertThat(json.deserialize(smile.serialize(List.of(1L, 2L)))).isNull();
+        assertThat(smile.deserialize(json.serialize(List.of(1L, 2L)))).isNull();
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheValueFormat.class)
+    @DisplayName("최상위 문자열/숫자 값도 그대로 읽는다")
+    void scalarRoundTrip(CacheValueFormat format) {
+        RedisSerializer<Object> serializer = format.serializer();
+
+        assertThat(serializer.deserialize(serializer.serialize("고객사"))).isEqualTo("고객사");
+        assertThat(serializer.deserialize(serializer.serialize(42))).isEqualTo(42);
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheValueFormat.class)
+    @DisplayName("Page 는 CachedPage 로 저장했다가 같은 내용/페이지 정보의 Page 로 읽는다")
+    void pageRoundTrip(CacheValueFormat format) {
+        RedisSerializer<Object> serializer = format.serializer();
+        Page<QuestionSummaryResponseDTO> page = new PageImpl<>(
+            List.of(question(1L), question(2L)),
+            PageRequest.of(3, 2),
+            100L
+        );
+
+        Object value = serializer.deserialize(serializer.serialize(page));
+
+        assertThat(value).isInstanceOf(Page.class);
+        Page<?> restored = (Page<?>) value;
+        assertThat(restored.getContent()).containsExactlyElementsOf(page.getContent());
+        assertThat(restored.getNumber()).isEqualTo(3);
+        assertThat(restored.getSize()).isEqualTo(2);
+        assertThat(restored.getTotalElements()).isEqualTo(100L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheValueFormat.class)
+    @DisplayName("빈 값은 null 로 읽는다")
+    void emptyIsNull(CacheValueFormat format) {
+        assertThat(format.serializer().deserialize(new byte[0])).isNull();
+        assertThat(format.serializer().deserialize(null)).isNull();
+    }
+
+    private static QuestionSummaryResponseDTO question(Long questionId) {
+        return QuestionSummaryResponseDTO.builder()
+            .questionId(questionId)
+            .title("강재 납기 관련 문의 " + questionId)
+            .status(QuestionStatus.READY)
+            .type(QuestionType.values()[0])
+            .contents("납기 일정 확인 부탁드립니다.")
+            .customerName("고객사")
+            .questionCreatedAt(LocalDateTime.of(2024, 9, 1, 10, 30))
+            .isActivated(true)
+            .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.pobluesky.voc.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pobluesky.voc.question.entity.QuestionStatus;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryCountCacheTest {
+
+    private final QueryCountCache queryCountCache = new QueryCountCache(Duration.ofMinutes(1), 100);
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 쿼리/필터로 다시 조회하면 count 쿼리를 실행하지 않는다")
+    void sameFilters() {
+        assertThat(queryCountCache.getCount("questionsByManager", counter(10L), QuestionStatus.READY, "강재", null))
+            .isEqualTo(10L);
+        assertThat(queryCountCache.getCount("questionsByManager", counter(99L), QuestionStatus.READY, "강재", null))
+            .isEqualTo(10L);
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("필터 값이나 위치가 다르면 따로 계산한다")
+    void differentFilters() {
+        queryCountCache.getCount("questionsByManager", counter(1L), QuestionStatus.READY, null);
+        queryCountCache.getCount("questionsByManager", counter(2L), QuestionStatus.COMPLETED, null);
+        queryCountCache.getCount("questionsByManager", counter(3L), null, QuestionStatus.READY);
+
+        assertThat(calls).hasValue(3);
+        assertThat(queryCountCache.getCount("questionsByManager", counter(0L), QuestionStatus.COMPLETED, null))
+            .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("필터가 같아도 쿼리 이름이 다르면 따로 계산한다")
+    void differentQueryName() {
+        queryCountCache.getCount("questionsByManager", counter(5L), 1L);
+
+        assertThat(queryCountCache.getCount("questionsByCustomer", counter(7L), 1L)).isEqualTo(7L);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("null count 는 0으로 캐시하고, 전체 무효화 후에는 다시 계산한다")
+    void nullCountAndInvalidate() {
+        assertThat(queryCountCache.getCount("questionsByManager", counter(null))).isZero();
+        assertThat(queryCountCache.getCount("questionsByManager", counter(4L))).isZero();
+
+        queryCountCache.invalidateAll();
+
+        assertThat(queryCountCache.getCount("questionsByManager", counter(4L))).isEqualTo(4L);
+        assertThat(calls).hasValue(2);
+    }
+
+    private Supplier<Long> counter(Long count) {
+        return () -> {
+            calls.incrementAndGet();
+            return count;
+        };
+    }
+}
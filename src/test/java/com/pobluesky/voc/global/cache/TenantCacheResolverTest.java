@@ -0,0 +1,100 @@
+package com.pobluesky.voc.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheableOperation;
+
+class TenantCacheResolverTest {
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    private final TenantCacheResolver resolver = new TenantCacheResolver(cacheManager);
+
+    @Test
+    @DisplayName("customerId 파라미터가 있으면 고객사별 캐시를 사용하고, 다른 고객사 캐시와 값을 공유하지 않는다")
+    void tenantIsolation() throws NoSuchMethodException {
+        Method method = Lists.class.getDeclaredMethod("byCustomer", Long.class, int.class);
+
+        Cache first = resolveOne("questionsByCustomer", method, 1L, 0);
+        Cache second = resolveOne("questionsByCustomer", method, 2L, 0);
+
+        assertThat(first.getName()).isEqualTo(TenantCacheResolver.tenantCacheName("questionsByCustomer", 1L));
+        assertThat(second.getName()).isEqualTo("questionsByCustomer:2");
+
+        first.put("page:0", "first");
+        assertThat(second.get("page:0")).isNull();
+
+        // 한 고객사 캐시를 비워도 다른 고객사 캐시는 유지된다
+        second.put("page:0", "second");
+        first.clear();
+        assertThat(second.get("page:0").get()).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("customerId 파라미터가 없거나 null 이면 공통 캐시를 사용한다")
+    void sharedCache() throws NoSuchMethodException {
+        Method byManager = Lists.class.getDeclaredMethod("byManager", Long.class);
+        Method byCustomer = Lists.class.getDeclaredMethod("byCustomer", Long.class, int.class);
+
+        assertThat(resolveOne("questionsByManager", byManager, 1L).getName()).isEqualTo("questionsByManager");
+        assertThat(resolveOne("questionsByCustomer", byCustomer, null, 0).getName()).isEqualTo("questionsByCustomer");
+    }
+
+    @Test
+    @DisplayName("기본 캐시 이름은 고객사 구분자 앞부분이다")
+    void baseCacheName() {
+        assertThat(TenantCacheResolver.baseCacheName("questionsByCustomer:12")).isEqualTo("questionsByCustomer");
+        assertThat(TenantCacheResolver.baseCacheName("questionsByManager")).isEqualTo("questionsByManager");
+    }
+
+    private Cache resolveOne(String cacheName, Method method, Object... args) {
+        CacheableOperation.Builder builder = new CacheableOperation.Builder();
+        builder.setName(method.getName());
+        builder.setCacheName(cacheName);
+        CacheableOperation operation = builder.build();
+
+        Collection<? extends Cache> caches = resolver.resolveCaches(new CacheOperationInvocationContext<CacheableOperation>() {
+            @Override
+            public CacheableOperation getOperation() {
+                return operation;
+            }
+
+            @Override
+            public Object getTarget() {
+                return new Lists();
+            }
+
+            @Override
+            public Method getMethod() {
+                return method;
+            }
+
+            @Override
+            public Object[] getArgs() {
+                return args;
+            }
+        });
+
+        assertThat(caches).hasSize(1);
+
+        return caches.iterator().next();
+    }
+
+    static class Lists {
+
+        Object byCustomer(Long customerId, int page) {
+            return null;
+        }
+
+        Object byManager(Long managerId) {
+            return null;
+        }
+    }
+}
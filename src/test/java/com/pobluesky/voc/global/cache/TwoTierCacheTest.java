@@ -0,0 +1,115 @@
+package com.pobluesky.voc.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+class TwoTierCacheTest {
+
+    private static final String CACHE_NAME = "questionsByManager";
+
+    private RTopic topic;
+
+    private Runnable onL2Read;
+
+    // L2 조회 직후 onL2Read 를 실행해 조회 중 무효화를 재현한다
+    private final ConcurrentMapCache l2 = new ConcurrentMapCache(CACHE_NAME) {
+        @Override
+        public ValueWrapper get(Object key) {
+            ValueWrapper value = super.get(key);
+            if (onL2Read != null) {
+                onL2Read.run();
+            }
+            return value;
+        }
+    };
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        SimpleCacheManager delegate = new SimpleCacheManager();
+        delegate.setCaches(List.of(l2));
+        delegate.afterPropertiesSet();
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        topic = mock(RTopic.class);
+        given(redissonClient.getTopic(anyString(), any())).willReturn(topic);
+
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(
+            delegate,
+            redissonClient,
+            new SimpleMeterRegistry(),
+            Duration.ofMinutes(1),
+            100
+        );
+        cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 값은 L1에서 응답한다")
+    void servesFromL1() {
+        l2.put("page:0", "cached");
+        assertThat(cache.get("page:0").get()).isEqualTo("cached");
+
+        // L2를 직접 바꿔도 무효화 전까지는 L1 값을 사용
+        l2.put("page:0", "changed");
+        assertThat(cache.get("page:0").get()).isEqualTo("cached");
+    }
+
+    @Test
+    @DisplayName("L2 조회 중 무효화가 있었으면 읽은 값을 L1에 넣지 않는다")
+    void epochGuard() {
+        l2.put("page:0", "old");
+        onL2Read = () -> cache.evict("page:0");
+
+        assertThat(cache.get("page:0").get()).isEqualTo("old");
+
+        onL2Read = null;
+        l2.put("page:0", "new");
+
+        assertThat(cache.get("page:0").get()).isEqualTo("new");
+        verify(topic).publish(CACHE_NAME + "\npage:0");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 L1을 비운다")
+    @SuppressWarnings("unchecked")
+    void remoteInvalidation() {
+        ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), listener.capture());
+
+        l2.put("page:0", "old");
+        l2.put("page:1", "old");
+        cache.get("page:0");
+        cache.get("page:1");
+
+        l2.put("page:0", "new");
+        l2.put("page:1", "new");
+
+        listener.getValue().onMessage(CACHE_NAME, CACHE_NAME + "\npage:0");
+        assertThat(cache.get("page:0").get()).isEqualTo("new");
+        assertThat(cache.get("page:1").get()).isEqualTo("old");
+
+        listener.getValue().onMessage(CACHE_NAME, CACHE_NAME);
+        assertThat(cache.get("page:1").get()).isEqualTo("new");
+    }
+}
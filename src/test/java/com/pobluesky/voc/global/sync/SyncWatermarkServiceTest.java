@@ -0,0 +1,49 @@
+package com.pobluesky.voc.global.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SyncWatermarkServiceTest {
+
+    @Mock
+    private SyncWatermarkRepository syncWatermarkRepository;
+
+    @InjectMocks
+    private SyncWatermarkService syncWatermarkService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(syncWatermarkService, "overlapMinutes", 5L);
+    }
+
+    @Test
+    @DisplayName("증분 기준 시각은 마지막 성공 실행의 시작 시각에서 overlap 만큼 앞당긴 값이다")
+    void since() {
+        LocalDateTime lastStartedAt = LocalDateTime.of(2024, 9, 1, 10, 0);
+        given(syncWatermarkRepository.findById("manager-directory"))
+            .willReturn(Optional.of(SyncWatermark.of("manager-directory", lastStartedAt)));
+
+        assertThat(syncWatermarkService.getSince("manager-directory"))
+            .isEqualTo(LocalDateTime.of(2024, 9, 1, 9, 55));
+    }
+
+    @Test
+    @DisplayName("성공한 실행이 없으면 기준 시각은 null (전체 동기화)이다")
+    void sinceWithoutWatermark() {
+        given(syncWatermarkRepository.findById("manager-directory")).willReturn(Optional.empty());
+
+        assertThat(syncWatermarkService.getSince("manager-directory")).isNull();
+    }
+}
@@ -0,0 +1,73 @@
+package com.pobluesky.voc.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.pobluesky.voc.global.error.CommonException;
+import com.pobluesky.voc.global.error.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 같은 정렬 기준으로 디코딩하면 원래 값이 된다")
+    void roundTrip() {
+        PageCursor cursor = new PageCursor("TYPE", LocalDateTime.of(2024, 9, 1, 10, 30, 15), 42L, "ETC");
+
+        assertThat(PageCursor.decode(cursor.encode(), "TYPE")).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("작성일과 유형이 없는 행의 커서도 그대로 주고받는다")
+    void roundTripWithNulls() {
+        PageCursor cursor = new PageCursor("LATEST", null, 7L, null);
+
+        assertThat(PageCursor.decode(cursor.encode(), "LATEST")).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)이다")
+    void blank() {
+        assertThat(PageCursor.decode(null, "LATEST")).isNull();
+        assertThat(PageCursor.decode("", "LATEST")).isNull();
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 다른 커서는 거부한다")
+    void sortMismatch() {
+        String cursor = new PageCursor("LATEST", LocalDateTime.of(2024, 9, 1, 10, 30), 1L, null).encode();
+
+        assertThatThrownBy(() -> PageCursor.decode(cursor, "OLDEST"))
+            .isInstanceOf(CommonException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거부한다")
+    void malformed() {
+        String wrongId = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("LATEST|2024-09-01T10:30|abc|".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : new String[]{"!!!", "bm90LWEtY3Vyc29y", wrongId}) {
+            assertThatThrownBy(() -> PageCursor.decode(cursor, "LATEST"))
+                .as(cursor)
+                .isInstanceOf(CommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1 ~ MAX_SIZE 로 보정한다")
+    void pageSize() {
+        assertThat(PageCursor.pageSize(-5)).isEqualTo(1);
+        assertThat(PageCursor.pageSize(0)).isEqualTo(1);
+        assertThat(PageCursor.pageSize(15)).isEqualTo(15);
+        assertThat(PageCursor.pageSize(10_000)).isEqualTo(PageCursor.MAX_SIZE);
+    }
+}
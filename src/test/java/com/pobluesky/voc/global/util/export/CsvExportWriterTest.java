@@ -0,0 +1,65 @@
+package com.pobluesky.voc.global.util.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CsvExportWriterTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"=SUM(A1:A2)", "+82-10", "-1+1", "@cmd", "\tcmd"})
+    @DisplayName("수식으로 해석될 수 있는 값은 앞에 ' 를 붙인다")
+    void formulaGuard(String value) throws IOException {
+        assertThat(write(List.of(value))).isEqualTo("'" + value + "\r\n");
+    }
+
+    @Test
+    @DisplayName("CR 로 시작하는 값도 ' 를 붙이고, 줄바꿈이 있으므로 따옴표로 감싼다")
+    void formulaGuardWithCarriageReturn() throws IOException {
+        assertThat(write(List.of("\r=cmd"))).isEqualTo("\"'\r=cmd\"\r\n");
+    }
+
+    @Test
+    @DisplayName("중간에 나오는 기호는 그대로 두고, 쉼표/따옴표가 있는 값만 따옴표로 감싼다")
+    void escape() throws IOException {
+        assertThat(write(Arrays.asList("a-b", "1,000", "say \"hi\"", null, LocalDateTime.of(2024, 9, 1, 10, 30))))
+            .isEqualTo("a-b,\"1,000\",\"say \"\"hi\"\"\",," + ExportWriter.format(LocalDateTime.of(2024, 9, 1, 10, 30))
+                + "\r\n");
+    }
+
+    @Test
+    @DisplayName("중단된 경우 버퍼에 남은 행을 내보내지 않는다")
+    void abort() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (CsvExportWriter writer = new CsvExportWriter(outputStream)) {
+            writer.writeRow(List.of("title"));
+            writer.abort();
+        }
+
+        assertThat(outputStream.size()).isZero();
+    }
+
+    // BOM 을 제외한 출력
+    private static String write(List<?> row) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (CsvExportWriter writer = new CsvExportWriter(outputStream)) {
+            writer.writeRow(row);
+        }
+
+        String csv = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFF");
+
+        return csv.substring(1);
+    }
+}
@@ -0,0 +1,101 @@
+package com.pobluesky.voc.manager.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.pobluesky.voc.feign.CachingUserClient;
+import com.pobluesky.voc.feign.Manager;
+import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.global.entity.Department;
+import com.pobluesky.voc.global.sync.SyncWatermarkService;
+import com.pobluesky.voc.global.util.model.JsonResult;
+import com.pobluesky.voc.manager.entity.ManagerDirectory;
+import com.pobluesky.voc.manager.repository.ManagerDirectoryRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ManagerDirectorySyncSchedulerTest {
+
+    private static final String WATERMARK = "manager-directory";
+
+    @Mock
+    private ManagerDirectoryRepository managerDirectoryRepository;
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private CachingUserClient cachingUserClient;
+
+    @Mock
+    private SyncWatermarkService syncWatermarkService;
+
+    @InjectMocks
+    private ManagerDirectorySyncScheduler scheduler;
+
+    @Captor
+    private ArgumentCaptor<List<ManagerDirectory>> saved;
+
+    @Test
+    @DisplayName("기준 시각이 없으면 전체 담당자를 가져와 저장하고 프로필 캐시는 비우지 않는다")
+    void fullSync() {
+        given(syncWatermarkService.getSince(WATERMARK)).willReturn(null);
+        given(userClient.getManagersUpdatedSince(null))
+            .willReturn(JsonResult.of("success", List.of(manager(1L, "김담당"), manager(2L, "이담당")), null));
+        given(managerDirectoryRepository.findAllById(List.of(1L, 2L))).willReturn(List.of());
+
+        scheduler.syncManagers();
+
+        verify(managerDirectoryRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(ManagerDirectory::getUserId).containsExactly(1L, 2L);
+        verifyNoInteractions(cachingUserClient);
+        verify(syncWatermarkService).advance(eq(WATERMARK), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("기준 시각이 있으면 그 이후 변경분만 가져와 바뀐 담당자만 저장하고 프로필 캐시를 비운다")
+    void incrementalSync() {
+        LocalDateTime since = LocalDateTime.of(2024, 9, 1, 9, 55);
+        LocalDateTime syncedAt = since.minusDays(1);
+
+        given(syncWatermarkService.getSince(WATERMARK)).willReturn(since);
+        given(userClient.getManagersUpdatedSince(since))
+            .willReturn(JsonResult.of("success", List.of(manager(1L, "김담당"), manager(2L, "이담당")), null));
+        given(managerDirectoryRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(
+            ManagerDirectory.from(manager(1L, "김예전"), syncedAt),
+            ManagerDirectory.from(manager(2L, "이담당"), syncedAt)
+        ));
+
+        scheduler.syncManagers();
+
+        verify(managerDirectoryRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(ManagerDirectory::getUserId).containsExactly(1L);
+        assertThat(saved.getValue().get(0).getName()).isEqualTo("김담당");
+        verify(cachingUserClient).evictManager(1L);
+        verify(cachingUserClient).evictManager(2L);
+        verify(syncWatermarkService).advance(eq(WATERMARK), any(LocalDateTime.class));
+    }
+
+    private static Manager manager(Long userId, String name) {
+        Manager manager = new Manager();
+        manager.setUserId(userId);
+        manager.setEmpNo("E" + userId);
+        manager.setName(name);
+        manager.setDepartment(Department.values()[0]);
+
+        return manager;
+    }
+}
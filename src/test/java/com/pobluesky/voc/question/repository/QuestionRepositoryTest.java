@@ -0,0 +1,223 @@
+package com.pobluesky.voc.question.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.pobluesky.voc.answer.entity.Answer;
+import com.pobluesky.voc.collaboration.entity.Collaboration;
+import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.feign.UserProfileReader;
+import com.pobluesky.voc.global.cache.QueryCountCache;
+import com.pobluesky.voc.global.util.PageCursor;
+import com.pobluesky.voc.global.util.model.CursorPage;
+import com.pobluesky.voc.question.dto.response.QuestionSummaryResponseDTO;
+import com.pobluesky.voc.question.entity.Question;
+import com.pobluesky.voc.question.entity.QuestionStatus;
+import com.pobluesky.voc.question.entity.QuestionType;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.flyway.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class QuestionRepositoryTest {
+
+    private static final int QUESTION_COUNT = 5;
+
+    @Configuration
+    @EntityScan(basePackages = "com.pobluesky.voc")
+    @EnableJpaRepositories(basePackageClasses = QuestionRepository.class)
+    static class TestConfig {
+
+        @Bean
+        JPAQueryFactory jpaQueryFactory(EntityManager em) {
+            return new JPAQueryFactory(em);
+        }
+
+        @Bean
+        UserProfileReader userProfileReader() {
+            return new UserProfileReader(mock(UserClient.class));
+        }
+
+        @Bean
+        QueryCountCache queryCountCache() {
+            return new QueryCountCache(Duration.ofSeconds(30), 100);
+        }
+    }
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private final List<Long> questionIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            Question question = em.persist(Question.builder()
+                .userId(1L)
+                .customerName("customer")
+                .title("title " + i)
+                .contents("contents " + i)
+                .status(QuestionStatus.READY)
+                .type(QuestionType.ETC)
+                .build());
+
+            em.persist(Answer.builder()
+                .question(question)
+                .customerId(1L)
+                .managerId(2L)
+                .title("answer " + i)
+                .contents("answer contents " + i)
+                .build());
+
+            em.persist(Collaboration.builder()
+                .question(question)
+                .colRequestId(2L)
+                .colResponseId(3L)
+                .colContents("collaboration " + i)
+                .build());
+
+            questionIds.add(question.getQuestionId());
+        }
+
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("질문 단건 조회 시 답변/협업까지 한 번의 쿼리로 조회한다")
+    void findById() {
+        Question question = questionRepository.findById(questionIds.get(0)).orElseThrow();
+
+        assertThat(question.getAnswer()).isNotNull();
+        assertThat(question.getCollaboration()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("활성 질문 단건 조회 시 답변/협업까지 한 번의 쿼리로 조회한다")
+    void findActiveQuestionByQuestionId() {
+        Question question = questionRepository.findActiveQuestionByQuestionId(questionIds.get(0))
+            .orElseThrow();
+
+        assertThat(question.getAnswer()).isNotNull();
+        assertThat(question.getCollaboration()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최신순 커서 페이징은 같은 작성일을 ID로 구분하고, 작성일이 없는 행까지 이어서 조회한다")
+    void cursorLatest() {
+        setUpCursorRows();
+
+        assertThat(pageThrough("LATEST")).containsExactly(
+            questionIds.get(1), questionIds.get(0), questionIds.get(2), questionIds.get(4), questionIds.get(3)
+        );
+    }
+
+    @Test
+    @DisplayName("오래된순 커서 페이징은 작성일이 없는 행부터 조회하고, 같은 작성일은 ID 오름차순이다")
+    void cursorOldest() {
+        setUpCursorRows();
+
+        assertThat(pageThrough("OLDEST")).containsExactly(
+            questionIds.get(3), questionIds.get(4), questionIds.get(2), questionIds.get(0), questionIds.get(1)
+        );
+    }
+
+    @Test
+    @DisplayName("유형순 커서 페이징은 유형이 없는 행을 마지막에 조회한다")
+    void cursorType() {
+        setUpCursorRows();
+        em.getEntityManager()
+            .createNativeQuery("UPDATE question SET type = NULL WHERE question_id = ?")
+            .setParameter(1, questionIds.get(2))
+            .executeUpdate();
+
+        assertThat(pageThrough("TYPE")).containsExactly(
+            questionIds.get(1), questionIds.get(0), questionIds.get(4), questionIds.get(3), questionIds.get(2)
+        );
+    }
+
+    // q0, q1: 같은 작성일 / q2: 더 이른 작성일 / q3, q4: 작성일 없음
+    private void setUpCursorRows() {
+        LocalDateTime sameTime = LocalDateTime.of(2024, 9, 1, 10, 0);
+
+        updateCreatedDate(questionIds.get(0), sameTime);
+        updateCreatedDate(questionIds.get(1), sameTime);
+        updateCreatedDate(questionIds.get(2), sameTime.minusHours(1));
+
+        em.getEntityManager()
+            .createNativeQuery("UPDATE question SET created_date = NULL WHERE question_id IN (?, ?)")
+            .setParameter(1, questionIds.get(3))
+            .setParameter(2, questionIds.get(4))
+            .executeUpdate();
+    }
+
+    private void updateCreatedDate(Long questionId, LocalDateTime createdDate) {
+        em.getEntityManager()
+            .createNativeQuery("UPDATE question SET created_date = ? WHERE question_id = ?")
+            .setParameter(1, createdDate)
+            .setParameter(2, questionId)
+            .executeUpdate();
+    }
+
+    // 페이지 크기 2로 nextCursor 를 따라가며 전체 ID 순서를 수집
+    private List<Long> pageThrough(String sortBy) {
+        em.clear();
+
+        List<Long> ids = new ArrayList<>();
+        String nextCursor = null;
+
+        do {
+            CursorPage<QuestionSummaryResponseDTO> page = questionRepository.findQuestionsByCustomerWithCursor(
+                PageCursor.decode(nextCursor, sortBy),
+                2,
+                1L,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                sortBy,
+                null
+            );
+
+            page.content().forEach(q -> ids.add(q.questionId()));
+            nextCursor = page.nextCursor();
+        } while (nextCursor != null);
+
+        return ids;
+    }
+}
@@ -0,0 +1,105 @@
+package com.pobluesky.voc.question.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.pobluesky.voc.feign.CachingUserClient;
+import com.pobluesky.voc.feign.Customer;
+import com.pobluesky.voc.feign.UserClient;
+import com.pobluesky.voc.global.sync.SyncWatermarkService;
+import com.pobluesky.voc.global.util.model.JsonResult;
+import com.pobluesky.voc.question.repository.QuestionRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionCustomerNameSyncSchedulerTest {
+
+    private static final String WATERMARK = "question-customer-name";
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private CachingUserClient cachingUserClient;
+
+    @Mock
+    private QuestionListCacheEvictor questionListCacheEvictor;
+
+    @Mock
+    private SyncWatermarkService syncWatermarkService;
+
+    @InjectMocks
+    private QuestionCustomerNameSyncScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "batchSize", 100);
+    }
+
+    @Test
+    @DisplayName("기준 시각이 없으면 질문이 있는 고객사 전체를 보정하고 바뀐 고객사 목록 캐시만 비운다")
+    void fullSync() {
+        PageRequest pageable = PageRequest.of(0, 100);
+
+        given(syncWatermarkService.getSince(WATERMARK)).willReturn(null);
+        given(questionRepository.findDistinctUserIds(pageable))
+            .willReturn(new SliceImpl<>(List.of(1L, 2L), pageable, false));
+        given(userClient.getCustomersByIdsWithoutToken(List.of(1L, 2L)))
+            .willReturn(JsonResult.of("success", Map.of(1L, customer(1L, "포스코"), 2L, customer(2L, "현대")), null));
+        given(questionRepository.updateCustomerName(1L, "포스코")).willReturn(3);
+        given(questionRepository.updateCustomerName(2L, "현대")).willReturn(0);
+
+        scheduler.syncCustomerNames();
+
+        verify(userClient, never()).getCustomersUpdatedSince(any());
+        verify(questionListCacheEvictor).evictCustomer(1L);
+        verify(questionListCacheEvictor, never()).evictCustomer(2L);
+        verifyNoInteractions(cachingUserClient);
+        verify(syncWatermarkService).advance(eq(WATERMARK), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("기준 시각이 있으면 그 이후 변경된 고객사의 질문만 갱신하고 프로필 캐시를 비운다")
+    void incrementalSync() {
+        LocalDateTime since = LocalDateTime.of(2024, 9, 1, 9, 55);
+
+        given(syncWatermarkService.getSince(WATERMARK)).willReturn(since);
+        given(userClient.getCustomersUpdatedSince(since))
+            .willReturn(JsonResult.of("success", List.of(customer(1L, "포스코")), null));
+        given(questionRepository.updateCustomerName(1L, "포스코")).willReturn(2);
+
+        scheduler.syncCustomerNames();
+
+        verify(questionRepository, never()).findDistinctUserIds(any());
+        verify(cachingUserClient).evictCustomer(1L);
+        verify(questionListCacheEvictor).evictCustomer(1L);
+        verify(syncWatermarkService).advance(eq(WATERMARK), any(LocalDateTime.class));
+    }
+
+    private static Customer customer(Long userId, String customerName) {
+        Customer customer = new Customer();
+        customer.setUserId(userId);
+        customer.setCustomerName(customerName);
+
+        return customer;
+    }
+}